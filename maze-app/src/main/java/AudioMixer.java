@@ -0,0 +1,243 @@
+import javax.sound.sampled.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+// Mixer software: semua suara dicampur ke satu SourceDataLine (44.1 kHz, 16 bit, stereo).
+// Track panjang di-stream dari file dengan buffer kecil, efek pendek dibaca dari PCM di cache.
+// Semua buffer dialokasikan sekali, jadi memori audio tetap kecil berapa pun jumlah suara yang tumpang tindih.
+public class AudioMixer {
+    public static final float SAMPLE_RATE = 44100f;
+    private static final AudioFormat FORMAT = new AudioFormat(SAMPLE_RATE, 16, 2, true, false);
+    private static final int FRAMES = 1024;  // ~23 ms per putaran mix
+
+    private final ConcurrentLinkedQueue<Voice> pending = new ConcurrentLinkedQueue<>();
+    private final List<Voice> voices = new ArrayList<>();  // Hanya disentuh thread mixer
+    private final int[] mix = new int[FRAMES * 2];
+    private final byte[] out = new byte[FRAMES * 4];
+
+    private SourceDataLine line;
+    private Thread thread;
+    private boolean unavailable;
+
+    // Sumber suara dengan resampling linear ke SAMPLE_RATE
+    public abstract static class Voice {
+        private static final int BUFFER_FRAMES = 1024;
+
+        private final boolean loop;
+        private final double step;
+        private final short[] buffer = new short[BUFFER_FRAMES * 2];  // Stereo interleaved
+        private int bufferFrames;
+        private int position;
+        private double fraction;
+        private volatile boolean stopped;
+        private volatile boolean finished;
+
+        protected Voice(float sampleRate, boolean loop) {
+            this.step = sampleRate / SAMPLE_RATE;
+            this.loop = loop;
+        }
+
+        public void stop() {
+            stopped = true;
+        }
+
+        public boolean isFinished() {
+            return stopped || finished;
+        }
+
+        // Isi frames[offset..offset+max) (stereo interleaved), kembalikan jumlah frame atau -1 kalau habis
+        protected abstract int read(short[] frames, int offset, int max) throws Exception;
+
+        // Mulai lagi dari awal untuk loop; false kalau tidak bisa
+        protected abstract boolean rewind() throws Exception;
+
+        protected void close() {
+        }
+
+        private boolean mixInto(int[] mix, int frames) {
+            try {
+                for (int i = 0; i < frames; i++) {
+                    while (position + 1 >= bufferFrames) {
+                        if (!refill()) return false;
+                    }
+                    int a = position * 2;
+                    mix[i * 2] += (int) (buffer[a] + (buffer[a + 2] - buffer[a]) * fraction);
+                    mix[i * 2 + 1] += (int) (buffer[a + 1] + (buffer[a + 3] - buffer[a + 1]) * fraction);
+                    fraction += step;
+                    int advance = (int) fraction;
+                    position += advance;
+                    fraction -= advance;
+                }
+                return true;
+            } catch (Exception e) {
+                System.err.println("Error streaming sound: " + e.getMessage());
+                return false;
+            }
+        }
+
+        // Frame terakhir disimpan supaya interpolasi tetap mulus melewati batas buffer (dan batas loop)
+        private boolean refill() throws Exception {
+            int keep = Math.max(0, bufferFrames - position);
+            int skip = Math.max(0, position - bufferFrames);
+            if (keep > 0) System.arraycopy(buffer, position * 2, buffer, 0, keep * 2);
+            int n = read(buffer, keep, BUFFER_FRAMES - keep);
+            if (n <= 0 && loop && rewind()) n = read(buffer, keep, BUFFER_FRAMES - keep);
+            if (n <= 0) return false;
+            bufferFrames = keep + n;
+            position = skip;
+            return true;
+        }
+    }
+
+    // Efek pendek dari PCM stereo yang sudah di-decode (dipakai bersama, tidak disalin)
+    public static class PcmVoice extends Voice {
+        private final short[] pcm;
+        private int offset;
+
+        public PcmVoice(short[] pcm, float sampleRate, boolean loop) {
+            super(sampleRate, loop);
+            this.pcm = pcm;
+        }
+
+        @Override
+        protected int read(short[] frames, int at, int max) {
+            int n = Math.min(max, (pcm.length - offset) / 2);
+            if (n <= 0) return -1;
+            System.arraycopy(pcm, offset, frames, at * 2, n * 2);
+            offset += n * 2;
+            return n;
+        }
+
+        @Override
+        protected boolean rewind() {
+            offset = 0;
+            return pcm.length > 0;
+        }
+    }
+
+    // Track panjang dibaca langsung dari file sedikit demi sedikit
+    public static class StreamVoice extends Voice {
+        private final Callable<AudioInputStream> opener;
+        private final byte[] bytes = new byte[4096];
+        private AudioInputStream stream;
+        private int channels;
+
+        public StreamVoice(Callable<AudioInputStream> opener, boolean loop) throws Exception {
+            this(opener, opener.call(), loop);
+        }
+
+        private StreamVoice(Callable<AudioInputStream> opener, AudioInputStream stream, boolean loop) {
+            super(stream.getFormat().getSampleRate(), loop);
+            this.opener = opener;
+            this.stream = stream;
+            this.channels = stream.getFormat().getChannels();
+        }
+
+        @Override
+        protected int read(short[] frames, int at, int max) throws Exception {
+            int frameSize = channels * 2;
+            int want = Math.min(max, bytes.length / frameSize) * frameSize;
+            int got = stream.readNBytes(bytes, 0, want);
+            int n = got / frameSize;
+            if (n == 0) return -1;
+            toStereo(bytes, channels, n, frames, at);
+            return n;
+        }
+
+        @Override
+        protected boolean rewind() throws Exception {
+            stream.close();
+            stream = opener.call();
+            channels = stream.getFormat().getChannels();
+            return true;
+        }
+
+        @Override
+        protected void close() {
+            try {
+                stream.close();
+            } catch (Exception ignored) {
+            }
+        }
+    }
+
+    // Normalisasi ke PCM 16 bit little-endian (sample rate dan jumlah channel tidak diubah)
+    public static AudioInputStream toPcm16(AudioInputStream source) {
+        AudioFormat format = source.getFormat();
+        AudioFormat target = new AudioFormat(format.getSampleRate(), 16, format.getChannels(), true, false);
+        return format.matches(target) ? source : AudioSystem.getAudioInputStream(target, source);
+    }
+
+    // 16 bit LE mono/stereo/multi-channel ke stereo interleaved (channel ekstra dibuang)
+    public static void toStereo(byte[] bytes, int channels, int frames, short[] dest, int at) {
+        for (int i = 0; i < frames; i++) {
+            int b = i * channels * 2;
+            short left = (short) ((bytes[b] & 0xff) | (bytes[b + 1] << 8));
+            short right = channels > 1 ? (short) ((bytes[b + 2] & 0xff) | (bytes[b + 3] << 8)) : left;
+            dest[(at + i) * 2] = left;
+            dest[(at + i) * 2 + 1] = right;
+        }
+    }
+
+    // false kalau tidak ada perangkat audio
+    public synchronized boolean play(Voice voice) {
+        if (unavailable) return false;
+        if (thread == null) {
+            try {
+                line = AudioSystem.getSourceDataLine(FORMAT);
+                line.open(FORMAT, FRAMES * 4 * 4);
+            } catch (Exception e) {
+                System.err.println("Audio output not available: " + e.getMessage());
+                unavailable = true;
+                return false;
+            }
+            thread = new Thread(this::run, "audio-mixer");
+            thread.setDaemon(true);
+            thread.start();
+        }
+        pending.add(voice);
+        LockSupport.unpark(thread);
+        return true;
+    }
+
+    private void run() {
+        boolean started = false;
+        while (true) {
+            for (Voice voice; (voice = pending.poll()) != null; ) voices.add(voice);
+            if (voices.isEmpty()) {
+                // Tidak ada suara: hentikan line dan tidur sampai play() membangunkan
+                if (started) {
+                    line.drain();
+                    line.stop();
+                    started = false;
+                }
+                LockSupport.park(this);
+                continue;
+            }
+
+            Arrays.fill(mix, 0);
+            for (int i = voices.size() - 1; i >= 0; i--) {
+                Voice voice = voices.get(i);
+                if (voice.stopped || !voice.mixInto(mix, FRAMES)) {
+                    voice.finished = true;
+                    voice.close();
+                    voices.remove(i);
+                }
+            }
+            for (int i = 0; i < mix.length; i++) {
+                int sample = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, mix[i]));
+                out[i * 2] = (byte) sample;
+                out[i * 2 + 1] = (byte) (sample >> 8);
+            }
+            if (!started) {
+                line.start();
+                started = true;
+            }
+            line.write(out, 0, out.length);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+import java.util.concurrent.atomic.AtomicLong;
+
+// Antrian event single-producer/single-consumer tanpa lock dan tanpa alokasi.
+// Producer = thread solver, consumer = EDT. Event dikodekan (cell << 2) | type dalam satu int.
+public class CellEventRing {
+    public static final int VISIT = 0;
+    public static final int PATH = 1;
+    public static final int PLAYER = 2;
+    public static final int CLEAR = 3;
+
+    public interface Handler {
+        void onEvent(int type, int cell);
+    }
+
+    private final int[] events;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();  // Ditulis consumer
+    private final AtomicLong tail = new AtomicLong();  // Ditulis producer
+    private long cachedHead;                           // Salinan head milik producer
+
+    public CellEventRing(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.events = new int[size];
+        this.mask = size - 1;
+    }
+
+    // Producer: false kalau ring penuh, event tidak ditulis
+    public boolean offer(int type, int cell) {
+        long t = tail.getPlain();
+        if (t - cachedHead == events.length) {
+            cachedHead = head.getAcquire();
+            if (t - cachedHead == events.length) return false;
+        }
+        events[(int) t & mask] = (cell << 2) | type;
+        tail.setRelease(t + 1);
+        return true;
+    }
+
+    // Consumer: proses semua event yang sudah terbit, kembalikan jumlahnya
+    public int drain(Handler handler) {
+        long h = head.getPlain();
+        long t = tail.getAcquire();
+        for (long i = h; i < t; i++) {
+            int event = events[(int) i & mask];
+            handler.onEvent(event & 3, event >>> 2);
+        }
+        head.setRelease(t);
+        return (int) (t - h);
+    }
+
+    // Consumer: buang semua event yang belum diproses
+    public void discard() {
+        head.setRelease(tail.getAcquire());
+    }
+}
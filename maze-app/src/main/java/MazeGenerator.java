@@ -1,14 +1,35 @@
 import java.awt.*;
 import java.util.*;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.LockSupport;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import javax.swing.plaf.basic.BasicButtonUI;
-import javax.sound.sampled.Clip;
+import maze.*;
 
 public class MazeGenerator extends JFrame {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws Exception {
+        // Tanpa layar (server/CI) langsung ke mode batch
+        List<String> options = new ArrayList<>(Arrays.asList(args));
+        if (options.remove("--headless") || GraphicsEnvironment.isHeadless()) {
+            BatchRunner.main(options.toArray(new String[0]));
+            return;
+        }
+
+        int rows = DEFAULT_ROWS;
+        int cols = DEFAULT_COLS;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--rows" -> rows = Integer.parseInt(args[i + 1]);
+                case "--cols" -> cols = Integer.parseInt(args[i + 1]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        final int mazeRows = rows;
+        final int mazeCols = cols;
+
+        SoundManager.preloadAll();
         SwingUtilities.invokeLater(() -> {
             try {
                 UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
@@ -16,11 +37,10 @@ public class MazeGenerator extends JFrame {
                 e.printStackTrace();
             }
 
-            MazeGenerator frame = new MazeGenerator();
+            MazeGenerator frame = new MazeGenerator(mazeRows, mazeCols);
             boolean startGame = WelcomeScreen.showWelcome(frame);
             if (startGame) {
                 frame.setVisible(true);
-                frame.bgMusic = SoundManager.playSoundLoop("backsound.wav");
                 SwingUtilities.invokeLater(() -> frame.generateMaze());
             } else {
                 System.exit(0);
@@ -28,8 +48,15 @@ public class MazeGenerator extends JFrame {
         });
     }
 
-    private static final int ROWS = 20;  // Dikurangi dari 25
-    private static final int COLS = 32;  // Dikurangi dari 30
+    private static final int DEFAULT_ROWS = 20;  // Dikurangi dari 25
+    private static final int DEFAULT_COLS = 32;  // Dikurangi dari 30
+    private static final int[][] MAZE_SIZES = {{20, 32}, {100, 160}, {500, 800}, {2000, 3200}, {10000, 10000}};
+    // Mulai ukuran ini maze dibangkitkan per tile secara paralel
+    private static final int TILED_MIN_CELLS = 1 << 20;
+    // Landmark ALT butuh int per sel per landmark; maze yang lebih besar memakai Manhattan
+    private static final int LANDMARK_MAX_CELLS = 1 << 22;
+    // Dead-end filling butuh 2 byte per sel plus satu graph CSR lagi; maze yang lebih besar di-solve utuh
+    private static final int DEAD_END_MAX_CELLS = 1 << 23;
     private static final int CELL_SIZE = 26;  // Dikurangi dari 32
     private static final int DELAY = 15;
     private static final int WALK_DELAY = 100;
@@ -47,20 +74,30 @@ public class MazeGenerator extends JFrame {
     private static final Font TITLE_FONT = new Font("Monospaced", Font.BOLD, 22);
     private static final Font LEGEND_FONT = new Font("Monospaced", Font.BOLD, 12);
 
-    private Cell[][] maze;
+    private MazeGrid maze;
     private MazePanel mazePanel;
+    private JScrollPane mazeScroll;
+    private MiniMap miniMap;
+    private int rows, cols;
     private WeightedGraph graph;
-    private Cell start, end;
-
-    private Thread currentSolvingThread;
-    private final AtomicBoolean stopCurrentSolving = new AtomicBoolean(false);
-
-    private Clip bgMusic;
-    private Clip endMusic;
-    private Clip heroMusic;
-    private Thread heroThread;
-
-    public MazeGenerator() {
+    // graph tanpa cabang buntu, hanya untuk tombol solve start -> trofi
+    private WeightedGraph solveGraph;
+    private Heuristic heuristic = Heuristic.MANHATTAN;
+    private int start = -1, end = -1;
+    // Jarak ke trofi untuk query dari posisi mana pun; dibangun sekali per maze saat pertama dipakai
+    private final DistanceFieldCache distanceField = new DistanceFieldCache();
+    private GeneratorType generatorType = GeneratorType.PRIM;
+
+    // Sesi latar yang sedang aktif; diganti (dan sesi lama dibatalkan) setiap generate/solve/reset
+    private SolveSession session;
+
+    private SoundManager.Track endMusic;
+    private volatile SoundManager.Track heroMusic;  // Diset dari task jeda musik
+    private volatile Future<?> heroDelay;
+
+    public MazeGenerator(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
         setTitle("🍄 SUPER MARIO MAZE QUEST 🍄");
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         getContentPane().setBackground(BG_COLOR);
@@ -70,16 +107,26 @@ public class MazeGenerator extends JFrame {
         topPanel.setBorder(BorderFactory.createMatteBorder(0, 0, 4, 0, Color.BLACK));
         add(topPanel, BorderLayout.NORTH);
 
-        mazePanel = new MazePanel(ROWS, COLS, CELL_SIZE);
-        maze = new Cell[ROWS][COLS];
-        initializeMaze();
+        mazePanel = new MazePanel(rows, cols, CELL_SIZE);
+        maze = new MazeGrid(rows, cols);
         mazePanel.setMaze(maze);
-        mazePanel.setBorder(BorderFactory.createLineBorder(Color.BLACK, 4));
-        add(mazePanel, BorderLayout.CENTER);
+        mazePanel.setCellDoubleClickHandler(this::showPathFrom);
+
+        // Viewport dibatasi seukuran maze default; maze yang lebih besar di-scroll/zoom
+        mazeScroll = new JScrollPane(mazePanel);
+        mazeScroll.setBorder(BorderFactory.createLineBorder(Color.BLACK, 4));
+        mazeScroll.getViewport().setBackground(BG_COLOR);
+        mazeScroll.setPreferredSize(new Dimension(DEFAULT_COLS * CELL_SIZE + 8, DEFAULT_ROWS * CELL_SIZE + 8));
+        add(mazeScroll, BorderLayout.CENTER);
+
+        miniMap = new MiniMap(mazePanel, mazeScroll.getViewport());
+        miniMap.setBorder(BorderFactory.createMatteBorder(0, 4, 0, 0, Color.BLACK));
+        miniMap.setVisible(false);
+        add(miniMap, BorderLayout.EAST);
+        mazeScroll.getViewport().addChangeListener(e -> miniMap.updateVisibility());
 
         pack();
         setLocationRelativeTo(null);
-        setResizable(false);
         customizeOptionPane();
     }
 
@@ -152,7 +199,7 @@ public class MazeGenerator extends JFrame {
             }
         };
 
-        groundLine.setPreferredSize(new Dimension(COLS * CELL_SIZE, 6));
+        groundLine.setPreferredSize(new Dimension(DEFAULT_COLS * CELL_SIZE, 6));
         groundLine.setOpaque(false);
         mainPanel.add(groundLine);
         mainPanel.add(Box.createVerticalStrut(2));
@@ -167,26 +214,53 @@ public class MazeGenerator extends JFrame {
         controlsSection.add(controlTitle);
 
         JButton generateBtn = createMarioButton("NEW", BUTTON_GREEN, "🍄");
+        JButton carverBtn = createMarioButton(generatorType.label, BUTTON_GREEN, "🧱");
+        JButton sizeBtn = createMarioButton(rows + "x" + cols, BUTTON_GREEN, "📐");
         JButton bfsBtn = createMarioButton("BFS", BUTTON_COLOR, "🔍");
         JButton dfsBtn = createMarioButton("DFS", BUTTON_COLOR, "🔍");
         JButton dijkstraBtn = createMarioButton("DIJKSTRA", BUTTON_COLOR, "⭐");
         JButton astarBtn = createMarioButton("A*", BUTTON_COLOR, "⚡");
+        JButton biDijkstraBtn = createMarioButton(SolverType.BIDIRECTIONAL_DIJKSTRA.label, BUTTON_COLOR, "⭐");
+        JButton biAstarBtn = createMarioButton(SolverType.BIDIRECTIONAL_ASTAR.label, BUTTON_COLOR, "⚡");
+        JButton corridorBtn = createMarioButton(SolverType.CORRIDOR_DIJKSTRA.label, BUTTON_COLOR, "⭐");
         JButton resetBtn = createMarioButton("RESET", BUTTON_YELLOW, "🔄");
         JButton exitBtn = createMarioButton("EXIT", BUTTON_RED, "❌"); // TOMBOL EXIT
 
         generateBtn.addActionListener(e -> generateMaze());
-        bfsBtn.addActionListener(e -> startNewSolving(() -> solveBFS()));
-        dfsBtn.addActionListener(e -> startNewSolving(() -> solveDFS()));
-        dijkstraBtn.addActionListener(e -> startNewSolving(() -> solveDijkstra()));
-        astarBtn.addActionListener(e -> startNewSolving(() -> solveAStar()));
+        carverBtn.addActionListener(e -> {
+            GeneratorType[] types = GeneratorType.values();
+            generatorType = types[(generatorType.ordinal() + 1) % types.length];
+            carverBtn.setText("🧱 " + generatorType.label);
+            generateMaze();
+        });
+        sizeBtn.addActionListener(e -> {
+            int next = 0;
+            for (int i = 0; i < MAZE_SIZES.length; i++) {
+                if (MAZE_SIZES[i][0] == rows && MAZE_SIZES[i][1] == cols) next = (i + 1) % MAZE_SIZES.length;
+            }
+            sizeBtn.setText("📐 " + MAZE_SIZES[next][0] + "x" + MAZE_SIZES[next][1]);
+            setMazeSize(MAZE_SIZES[next][0], MAZE_SIZES[next][1]);
+        });
+        bfsBtn.addActionListener(e -> startNewSolving(SolverType.BFS));
+        dfsBtn.addActionListener(e -> startNewSolving(SolverType.DFS));
+        dijkstraBtn.addActionListener(e -> startNewSolving(SolverType.DIJKSTRA));
+        astarBtn.addActionListener(e -> startNewSolving(SolverType.ASTAR));
+        biDijkstraBtn.addActionListener(e -> startNewSolving(SolverType.BIDIRECTIONAL_DIJKSTRA));
+        biAstarBtn.addActionListener(e -> startNewSolving(SolverType.BIDIRECTIONAL_ASTAR));
+        corridorBtn.addActionListener(e -> startNewSolving(SolverType.CORRIDOR_DIJKSTRA));
         resetBtn.addActionListener(e -> resetMaze());
         exitBtn.addActionListener(e -> exitGame());
 
         controlsSection.add(generateBtn);
+        controlsSection.add(carverBtn);
+        controlsSection.add(sizeBtn);
         controlsSection.add(bfsBtn);
         controlsSection.add(dfsBtn);
         controlsSection.add(dijkstraBtn);
         controlsSection.add(astarBtn);
+        controlsSection.add(biDijkstraBtn);
+        controlsSection.add(biAstarBtn);
+        controlsSection.add(corridorBtn);
         controlsSection.add(resetBtn);
         controlsSection.add(exitBtn);
 
@@ -220,25 +294,15 @@ public class MazeGenerator extends JFrame {
 
         yesButton.addActionListener(e -> {
             dialog.dispose();
-            stopCurrentThread();
-            SoundManager.stopSound(bgMusic);  // Stop all music
-            SoundManager.stopSound(endMusic);
+            cancelSession();
+            SoundManager.stopSound(endMusic);  // Stop all music
             SoundManager.stopSound(heroMusic);
             System.exit(0);
         });
 
         noButton.addActionListener(e -> {
             dialog.dispose();
-
-            // Kalau dari WIN dialog, play backsound lagi
-            if (isWinDialogOpen) {
-                isWinDialogOpen = false;  // Reset flag
-                bgMusic = SoundManager.playSoundLoop("backsound.wav");
-            }
-        });
-
-        noButton.addActionListener(e -> {
-            dialog.dispose();  // Tutup dialog aja
+            isWinDialogOpen = false;  // Reset flag kalau dari WIN dialog
         });
 
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 15, 10));
@@ -440,324 +504,124 @@ public class MazeGenerator extends JFrame {
         UIManager.put("Button.focus", new Color(0,0,0,0));
     }
 
-    private void stopCurrentThread() {
-        if (currentSolvingThread != null && currentSolvingThread.isAlive()) {
-            stopCurrentSolving.set(true);
-            currentSolvingThread.interrupt();
-            try {
-                currentSolvingThread.join(300);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        }
+    private SolveSession newSession() {
+        session = new SolveSession(session);
+        mazePanel.setToolTipText(null);
+        return session;
     }
 
-    private void initializeMaze() {
-        for (int i = 0; i < ROWS; i++) {
-            for (int j = 0; j < COLS; j++) {
-                maze[i][j] = new Cell(i, j);
-            }
-        }
+    private void cancelSession() {
+        if (session != null) session.cancel();
     }
 
     private void generateMaze() {
-        stopCurrentThread();
-        resetMaze();
-        new Thread(() -> {
-            primAlgorithmWithMorePaths();
-            assignTerrainTypes();
-            graph = new WeightedGraph(maze, ROWS, COLS);
-            start = maze[0][0];
-            end = maze[ROWS-1][COLS-1];
-            start.isStart = true;
-            end.isEnd = true;
+        MazeGrid target = maze;
+        GeneratorType type = generatorType;
+        clearMaze();
+        newSession().fork(s -> {
+            target.reset();
+            if (target.size() >= TILED_MIN_CELLS) {
+                new TiledGenerator(type.create()).generate(target, new SplittableRandom().nextLong());
+            } else {
+                Mazes.generate(target, type.create(), new SplittableRandom());
+            }
+            if (s.isCancelled()) return;
+            WeightedGraph built = new WeightedGraph(target);
+            Heuristic builtHeuristic = target.size() <= LANDMARK_MAX_CELLS
+                    ? Landmarks.compute(built, Landmarks.DEFAULT_COUNT)
+                    : Heuristic.MANHATTAN;
+            int startCell = target.index(0, 0);
+            int endCell = target.index(target.rows - 1, target.cols - 1);
+            target.setStart(startCell);
+            target.setEnd(endCell);
+            WeightedGraph pruned = target.size() <= DEAD_END_MAX_CELLS
+                    ? built.without(target.deadEnds(startCell, endCell))
+                    : built;
+            if (s.isCancelled()) return;
             SwingUtilities.invokeLater(() -> {
-                mazePanel.setMaze(maze);
+                if (s.isCancelled() || maze != target) return;
+                graph = built;
+                solveGraph = pruned;
+                heuristic = builtHeuristic;
+                start = startCell;
+                end = endCell;
+                mazePanel.setMaze(target);
                 mazePanel.setPlayerPosition(0, 0);
+                miniMap.repaint();
             });
-        }).start();
-    }
-
-    private void assignTerrainTypes() {
-        Random rand = new Random();
-        for (int i = 0; i < ROWS; i++) {
-            for (int j = 0; j < COLS; j++) {
-                int r = rand.nextInt(100);
-                if (r < 45) maze[i][j].terrain = Terrain.STONE;
-                else if (r < 65) maze[i][j].terrain = Terrain.GRASS;
-                else if (r < 82) maze[i][j].terrain = Terrain.SAND;
-                else maze[i][j].terrain = Terrain.LAVA;
-            }
-        }
-        maze[0][0].terrain = Terrain.STONE;
-        maze[ROWS-1][COLS-1].terrain = Terrain.STONE;
-    }
-
-    private void primAlgorithmWithMorePaths() {
-        Random rand = new Random();
-        List<Wall> walls = new ArrayList<>();
-        Set<Cell> visited = new HashSet<>();
-
-        Cell current = maze[rand.nextInt(ROWS)][rand.nextInt(COLS)];
-        visited.add(current);
-        addWalls(current, walls);
-
-        while (!walls.isEmpty()) {
-            Wall wall = walls.remove(rand.nextInt(walls.size()));
-            Cell cell1 = wall.cell1;
-            Cell cell2 = wall.cell2;
-
-            if (visited.contains(cell1) != visited.contains(cell2)) {
-                removeWall(cell1, cell2);
-                Cell unvisited = visited.contains(cell1) ? cell2 : cell1;
-                visited.add(unvisited);
-                addWalls(unvisited, walls);
-            }
-        }
-
-        List<Wall> allWalls = new ArrayList<>();
-        for (int i = 0; i < ROWS; i++) {
-            for (int j = 0; j < COLS; j++) {
-                Cell c = maze[i][j];
-                if (c.rightWall && j < COLS - 1) allWalls.add(new Wall(c, maze[i][j+1]));
-                if (c.bottomWall && i < ROWS - 1) allWalls.add(new Wall(c, maze[i+1][j]));
-            }
-        }
-        int wallsToRemove = (int) (allWalls.size() * 0.3);
-        for (int i = 0; i < wallsToRemove && !allWalls.isEmpty(); i++) {
-            Wall wall = allWalls.remove(rand.nextInt(allWalls.size()));
-            removeWall(wall.cell1, wall.cell2);
-        }
-    }
-
-    private void addWalls(Cell cell, List<Wall> walls) {
-        int[][] dirs = {{-1,0}, {1,0}, {0,-1}, {0,1}};
-        for (int[] dir : dirs) {
-            int nr = cell.row + dir[0];
-            int nc = cell.col + dir[1];
-            if (nr >= 0 && nr < ROWS && nc >= 0 && nc < COLS) {
-                walls.add(new Wall(cell, maze[nr][nc]));
-            }
-        }
-    }
-
-    private void removeWall(Cell c1, Cell c2) {
-        if (c1.row == c2.row) {
-            if (c1.col < c2.col) { c1.rightWall = false; c2.leftWall = false; }
-            else { c1.leftWall = false; c2.rightWall = false; }
-        } else {
-            if (c1.row < c2.row) { c1.bottomWall = false; c2.topWall = false; }
-            else { c1.topWall = false; c2.bottomWall = false; }
-        }
-    }
-
-    private void solveBFS() {
-        if (graph == null) return;
-
-        Queue<Cell> queue = new LinkedList<>();
-        Map<Cell, Cell> parent = new HashMap<>();
-        Set<Cell> visited = new HashSet<>();
-        queue.offer(start);
-        visited.add(start);
-
-        while (!queue.isEmpty() && !stopCurrentSolving.get()) {
-            Cell current = queue.poll();
-            current.isVisited = true;
-            SwingUtilities.invokeLater(() -> mazePanel.repaint());
-            if (!sleepInterruptible(DELAY)) return;
-
-            if (current == end) {
-                tracePath(parent, end);
-                return;
-            }
-
-            for (Cell neighbor : graph.getNeighbors(current)) {
-                if (!visited.contains(neighbor) && !stopCurrentSolving.get()) {
-                    visited.add(neighbor);
-                    parent.put(neighbor, current);
-                    queue.offer(neighbor);
-                }
-            }
-        }
+        });
     }
 
-    private void solveDFS() {
-        if (graph == null) return;
-
-        Stack<Cell> stack = new Stack<>();
-        Map<Cell, Cell> parent = new HashMap<>();
-        Set<Cell> visited = new HashSet<>();
-        stack.push(start);
-        visited.add(start);
-
-        while (!stack.isEmpty() && !stopCurrentSolving.get()) {
-            Cell current = stack.pop();
-            current.isVisited = true;
-            SwingUtilities.invokeLater(() -> mazePanel.repaint());
-            if (!sleepInterruptible(DELAY)) return;
-
-            if (current == end) {
-                tracePath(parent, end);
-                return;
-            }
-
-            for (Cell neighbor : graph.getNeighbors(current)) {
-                if (!visited.contains(neighbor) && !stopCurrentSolving.get()) {
-                    visited.add(neighbor);
-                    parent.put(neighbor, current);
-                    stack.push(neighbor);
-                }
-            }
-        }
+    private void setMazeSize(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        maze = new MazeGrid(rows, cols);
+        mazePanel.setMaze(maze);
+        // Mulai dari ukuran sel default, perkecil kalau maze tidak muat
+        JViewport viewport = mazeScroll.getViewport();
+        int fit = Math.min(viewport.getWidth() / cols, viewport.getHeight() / rows);
+        mazePanel.zoom(Math.max(MazePanel.MIN_CELL_SIZE, Math.min(CELL_SIZE, fit)), new Point());
+        mazePanel.scrollTo(0, 0);
+        generateMaze();
     }
 
-    private void solveDijkstra() {
-        if (graph == null) return;
-
-        PriorityQueue<Node> pq = new PriorityQueue<>();
-        Map<Cell, Integer> dist = new HashMap<>();
-        Map<Cell, Cell> parent = new HashMap<>();
-        Set<Cell> visited = new HashSet<>();
-
-        for (int i = 0; i < ROWS; i++) {
-            for (int j = 0; j < COLS; j++) dist.put(maze[i][j], Integer.MAX_VALUE);
-        }
-
-        dist.put(start, 0);
-        pq.offer(new Node(start, 0));
-
-        while (!pq.isEmpty() && !stopCurrentSolving.get()) {
-            Node node = pq.poll();
-            Cell current = node.cell;
-
-            if (visited.contains(current)) continue;
-            visited.add(current);
-            current.isVisited = true;
-            SwingUtilities.invokeLater(() -> mazePanel.repaint());
-            if (!sleepInterruptible(DELAY)) return;
-
-            if (current == end) {
-                tracePath(parent, end);
-                return;
-            }
-
-            for (Cell neighbor : graph.getNeighbors(current)) {
-                if (!visited.contains(neighbor) && !stopCurrentSolving.get()) {
-                    int newDist = dist.get(current) + neighbor.terrain.weight;
-                    if (newDist < dist.get(neighbor)) {
-                        dist.put(neighbor, newDist);
-                        parent.put(neighbor, current);
-                        pq.offer(new Node(neighbor, newDist));
-                    }
-                }
+    private void solve(SolveSession s, MazeSolver solver, WeightedGraph graph, int start, int end) {
+        SolveListener animation = new SolveListener() {
+            @Override
+            public void onVisit(int cell) {
+                publish(s, CellEventRing.VISIT, cell);
+                s.sleep(DELAY);
             }
-        }
-    }
-
-    private void solveAStar() {
-        if (graph == null) return;
-        PriorityQueue<Node> pq = new PriorityQueue<>();
-        Map<Cell, Integer> gScore = new HashMap<>();
-        Map<Cell, Cell> parent = new HashMap<>();
-        Set<Cell> visited = new HashSet<>();
 
-        for (int i = 0; i < ROWS; i++) {
-            for (int j = 0; j < COLS; j++) gScore.put(maze[i][j], Integer.MAX_VALUE);
-        }
-
-        gScore.put(start, 0);
-        int fScore = heuristic(start, end);
-        pq.offer(new Node(start, fScore));
-
-        while (!pq.isEmpty() && !stopCurrentSolving.get()) {
-            Node node = pq.poll();
-            Cell current = node.cell;
-
-            if (visited.contains(current)) continue;
-            visited.add(current);
-            current.isVisited = true;
-            SwingUtilities.invokeLater(() -> mazePanel.repaint());
-            if (!sleepInterruptible(DELAY)) return;
-
-            if (current == end) {
-                tracePath(parent, end);
-                return;
+            @Override
+            public boolean isCancelled() {
+                return s.isCancelled();
             }
+        };
 
-            for (Cell neighbor : graph.getNeighbors(current)) {
-                if (!visited.contains(neighbor) && !stopCurrentSolving.get()) {
-                    int tentativeG = gScore.get(current) + neighbor.terrain.weight;
-                    if (tentativeG < gScore.get(neighbor)) {
-                        gScore.put(neighbor, tentativeG);
-                        parent.put(neighbor, current);
-                        int f = tentativeG + heuristic(neighbor, end);
-                        pq.offer(new Node(neighbor, f));
-                    }
-                }
-            }
+        SolveResult result = solver.solve(graph, start, end, animation);
+        if (result.found() && !animation.isCancelled()) {
+            tracePath(s, result);
         }
     }
 
-    private int heuristic(Cell a, Cell b) {
-        return Math.abs(a.row - b.row) + Math.abs(a.col - b.col);
-    }
+    private void tracePath(SolveSession s, SolveResult result) {
+        if (s.isCancelled()) return;
 
-    private void tracePath(Map<Cell, Cell> parent, Cell end) {
-        if (stopCurrentSolving.get()) return;
-
-        SoundManager.stopSound(bgMusic);
         SoundManager.playSound("show_time.wav");
 
-        new Thread(() -> {
-            try {
-                Thread.sleep(1000);
-                if (!stopCurrentSolving.get()) {
-                    heroMusic = SoundManager.playSoundLoop("hero.wav");
-                }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+        heroDelay = s.fork(delay -> {
+            if (delay.sleep(1000)) {
+                heroMusic = SoundManager.playSoundLoop("hero.wav");
             }
-        }).start();
-
-        List<Cell> path = new ArrayList<>();
-        int totalCost = 0;
-        Cell current = end;
+        });
 
-        while (current != null) {
-            path.add(current);
-            if (current != start) totalCost += current.terrain.weight;
-            current = parent.get(current);
-        }
-        Collections.reverse(path);
+        int[] path = result.path;
 
-        for (Cell cell : path) {
-            if (stopCurrentSolving.get()) return;
-            cell.isPath = true;
-            SwingUtilities.invokeLater(() -> mazePanel.repaint());
-            if (!sleepInterruptible(DELAY)) return;
+        for (int cell : path) {
+            if (s.isCancelled()) return;
+            publish(s, CellEventRing.PATH, cell);
+            if (!s.sleep(DELAY)) return;
         }
 
-        for (Cell cell : path) {
-            if (stopCurrentSolving.get()) return;
-            final int row = cell.row;
-            final int col = cell.col;
-            SwingUtilities.invokeLater(() -> mazePanel.setPlayerPosition(row, col));
-            if (!sleepInterruptible(WALK_DELAY)) return;
+        for (int cell : path) {
+            if (s.isCancelled()) return;
+            publish(s, CellEventRing.PLAYER, cell);
+            if (!s.sleep(WALK_DELAY)) return;
         }
 
-        if (!stopCurrentSolving.get()) {
-            final int cost = totalCost;
-            SwingUtilities.invokeLater(() -> showPathCost(cost));
+        if (!s.isCancelled()) {
+            SwingUtilities.invokeLater(() -> showPathCost(result.cost));
         }
     }
 
-    private boolean sleepInterruptible(int ms) {
-        try {
-            Thread.sleep(ms);
-            return !stopCurrentSolving.get();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return false;
+    // Kirim event ke EDT; kalau ring penuh tunggu sebentar sampai frame berikutnya mengosongkannya.
+    // Pembatalan dicek sebelum setiap offer: sesi yang sudah dibatalkan tidak boleh menulis lagi ke ring
+    // single-producer itu (sesi berikutnya baru mulai setelah task ini kembali, lihat SolveSession).
+    private void publish(SolveSession s, int type, int cell) {
+        while (!s.isCancelled()) {
+            if (mazePanel.events().offer(type, cell)) return;
+            LockSupport.parkNanos(1_000_000);
         }
     }
 
@@ -767,8 +631,8 @@ public class MazeGenerator extends JFrame {
         SoundManager.stopSound(heroMusic);
         endMusic = SoundManager.playSoundLoop("end.wav");
 
-        if (heroThread != null && heroThread.isAlive()) {
-            heroThread.interrupt();
+        if (heroDelay != null) {
+            heroDelay.cancel(true);
         }
         SoundManager.stopSound(heroMusic);
 
@@ -809,7 +673,6 @@ public class MazeGenerator extends JFrame {
         JButton okButton = createWinButton("PLAY AGAIN", BUTTON_GREEN);
         okButton.addActionListener(e -> {
             SoundManager.stopSound(endMusic);  // ✅ STOP end.wav
-            bgMusic = SoundManager.playSoundLoop("backsound.wav");  // ✅ PLAY backsound lagi
             isWinDialogOpen = false;
             dialog.dispose();  // Tutup dialog
         });
@@ -834,12 +697,8 @@ public class MazeGenerator extends JFrame {
         dialog.addWindowListener(new java.awt.event.WindowAdapter() {
             @Override
             public void windowClosed(java.awt.event.WindowEvent e) {
-                // Cek apakah bgMusic masih null (berarti user belum klik PLAY AGAIN)
-                if (bgMusic == null || !bgMusic.isRunning()) {
-                    // Stop end music dan play backsound lagi
-                    SoundManager.stopSound(endMusic);
-                    bgMusic = SoundManager.playSoundLoop("backsound.wav");
-                }
+                // Dialog ditutup tanpa PLAY AGAIN: end.wav tetap harus berhenti
+                SoundManager.stopSound(endMusic);
             }
         });
 
@@ -902,45 +761,61 @@ public class MazeGenerator extends JFrame {
     }
 
     private void resetMaze() {
-        stopCurrentThread();
-        initializeMaze();
-        graph = null;
-        start = null;
-        end = null;
-        SwingUtilities.invokeLater(() -> {
-            mazePanel.setMaze(maze);
-            mazePanel.setPlayerPosition(0, 0);
+        MazeGrid target = maze;
+        clearMaze();
+        newSession().fork(s -> {
+            target.reset();
+            SwingUtilities.invokeLater(() -> {
+                if (s.isCancelled() || maze != target) return;
+                mazePanel.setMaze(target);
+                mazePanel.setPlayerPosition(0, 0);
+            });
         });
     }
 
-    private void resetSolution() {
-        for (int i = 0; i < ROWS; i++) {
-            for (int j = 0; j < COLS; j++) {
-                maze[i][j].isVisited = false;
-                maze[i][j].isPath = false;
-            }
-        }
-        mazePanel.repaint();
+    // Maze lama tidak boleh di-solve lagi sejak tombol ditekan
+    private void clearMaze() {
+        graph = null;
+        solveGraph = null;
+        heuristic = Heuristic.MANHATTAN;
+        start = -1;
+        end = -1;
+        distanceField.clear();
     }
 
-    private void startNewSolving(Runnable solvingTask) {
-        stopCurrentThread();
-        SwingUtilities.invokeLater(() -> {
-            resetSolution();
-            if (start != null) {
-                mazePanel.setPlayerPosition(start.row, start.col);
-            }
+    // Double-click: pindahkan player ke sel itu dan tampilkan jalur optimalnya ke trofi tanpa animasi search
+    private void showPathFrom(int cell) {
+        if (graph == null) return;
+        MazeGrid target = maze;
+        WeightedGraph fieldGraph = graph;
+        int fieldEnd = end;
+        newSession().fork(s -> {
+            SolveResult result = distanceField.get(target, fieldGraph, fieldEnd).path(cell);
+            publish(s, CellEventRing.CLEAR, 0);
+            publish(s, CellEventRing.PLAYER, cell);
+            for (int pathCell : result.path) {
+                if (s.isCancelled()) return;
+                publish(s, CellEventRing.PATH, pathCell);
+            }
+            String tip = result.found() ? "COST TO TROPHY: " + result.cost : "TROPHY UNREACHABLE";
+            SwingUtilities.invokeLater(() -> {
+                if (!s.isCancelled()) mazePanel.setToolTipText(tip);
+            });
         });
+    }
 
-        try {
-            Thread.sleep(100);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-
-        stopCurrentSolving.set(false);
-        currentSolvingThread = new Thread(solvingTask);
-        currentSolvingThread.start();
+    private void startNewSolving(SolverType type) {
+        if (solveGraph == null) return;
+        WeightedGraph prunedGraph = solveGraph;
+        Heuristic solveHeuristic = heuristic;
+        int solveStart = start;
+        int solveEnd = end;
+        newSession().fork(s -> {
+            // Reset lewat antrian yang sama supaya urutannya pasti sebelum event solver
+            publish(s, CellEventRing.CLEAR, 0);
+            publish(s, CellEventRing.PLAYER, solveStart);
+            solve(s, type.create(solveHeuristic), prunedGraph, solveStart, solveEnd);
+        });
     }
 
     private static class MarioIcon implements Icon {
@@ -0,0 +1,558 @@
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.IntConsumer;
+import javax.swing.*;
+import maze.MazeGrid;
+import maze.Terrain;
+
+public class MazePanel extends JPanel implements Scrollable {
+    private MazeGrid maze;
+    private int rows, cols, cellSize;
+    private int playerRow = 0;
+    private int playerCol = 0;
+
+    private static final Color VISITED_COLOR = new Color(9, 8, 8, 99);  // White transparent
+    private static final Color PATH_COLOR = new Color(255, 255, 255);           // Lime Green (#32CD32)
+    private static final Color PATH_BORDER_COLOR = PATH_COLOR.darker();
+    private static final Color WALL_COLOR = new Color(80, 80, 80);
+    private static final Color PLAYER_MARKER_COLOR = new Color(231, 32, 32);
+    private static final Color TROPHY_MARKER_COLOR = new Color(255, 215, 0);
+    private static final int WALL_SIZE = 3;
+
+    public static final int MIN_CELL_SIZE = 1;
+    public static final int MAX_CELL_SIZE = 64;
+    // Level of detail tile: di bawah DETAIL tanpa tekstur, di bawah PIXEL digambar langsung per piksel
+    private static final int DETAIL_CELL_SIZE = 8;
+    private static final int PIXEL_CELL_SIZE = 3;
+
+    private static final int FRAME_DELAY = 16;  // Maksimal ~60 repaint per detik
+    private static final int MAX_DIRTY_CELLS = 4096;
+    // Lebih dari ini tile berubah dalam satu frame: perubahan tersebar di hampir seluruh view
+    private static final int MAX_DIRTY_TILES = 16;
+
+    // Layer statis (terrain + tekstur + dinding) di-render per tile dan disimpan LRU,
+    // jadi maze besar tidak butuh satu gambar raksasa
+    private static final int TILE_SIZE = 256;
+    private static final int MAX_TILES = 128;
+    private final Map<Long, BufferedImage> tiles = new LinkedHashMap<>(MAX_TILES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, BufferedImage> eldest) {
+            return size() > MAX_TILES;
+        }
+    };
+
+    // Satu piksel per blok sel, dipakai oleh minimap
+    private static final int OVERVIEW_SIZE = 1024;
+    private BufferedImage overview;
+
+    private int endCell = -1;
+    private SpriteCache sprites;
+    private IntConsumer cellDoubleClick;
+
+    // Event dari thread solver; hanya EDT yang menerapkannya ke marks maze
+    private final CellEventRing events = new CellEventRing(1 << 14);
+    private final CellEventRing.Handler applyEvent = this::applyEvent;
+    private final Timer frameTimer = new Timer(FRAME_DELAY, e -> flushEvents());
+
+    // Sel yang berubah di frame ini (hanya disentuh EDT)
+    private final int[] dirtyCells = new int[MAX_DIRTY_CELLS];
+    private int dirtyCount;
+    private boolean dirtyOverflow;
+    // Bounding box sel berubah per tile TILE_SIZE piksel: key tile lalu min/max baris dan kolom
+    private final long[] dirtyTileKeys = new long[MAX_DIRTY_TILES];
+    private final int[][] dirtyTileBounds = new int[MAX_DIRTY_TILES][4];
+
+    public MazePanel(int rows, int cols, int cellSize) {
+        this.rows = rows;
+        this.cols = cols;
+        this.cellSize = cellSize;
+        this.setPreferredSize(new Dimension(cols * cellSize, rows * cellSize));
+        this.setBackground(new Color(71, 56, 40));
+
+        // Ctrl + wheel untuk zoom, drag untuk geser
+        MouseAdapter navigation = new MouseAdapter() {
+            private Point dragStart;
+            private Point viewStart;
+
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent e) {
+                if (e.isControlDown()) {
+                    int size = e.getWheelRotation() < 0
+                            ? Math.max(cellSize + 1, cellSize * 5 / 4)
+                            : Math.min(cellSize - 1, cellSize * 4 / 5);
+                    zoom(size, e.getPoint());
+                } else if (getParent() != null) {
+                    // Tanpa Ctrl, scroll biasa diteruskan ke JScrollPane
+                    getParent().dispatchEvent(SwingUtilities.convertMouseEvent(MazePanel.this, e, getParent()));
+                }
+            }
+
+            @Override
+            public void mousePressed(MouseEvent e) {
+                JViewport viewport = viewport();
+                if (viewport == null) return;
+                dragStart = e.getLocationOnScreen();
+                viewStart = viewport.getViewPosition();
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                JViewport viewport = viewport();
+                if (viewport == null || dragStart == null) return;
+                Point now = e.getLocationOnScreen();
+                scrollTo(viewStart.x - (now.x - dragStart.x), viewStart.y - (now.y - dragStart.y));
+            }
+
+            @Override
+            public void mouseReleased(MouseEvent e) {
+                dragStart = null;
+            }
+
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() != 2 || !SwingUtilities.isLeftMouseButton(e)) return;
+                if (cellDoubleClick == null || maze == null) return;
+                int row = e.getY() / cellSize;
+                int col = e.getX() / cellSize;
+                if (row < rows && col < cols) cellDoubleClick.accept(maze.index(row, col));
+            }
+        };
+        addMouseListener(navigation);
+        addMouseMotionListener(navigation);
+        addMouseWheelListener(navigation);
+    }
+
+    public void setMaze(MazeGrid maze) {
+        this.maze = maze;
+        // Marks milik EDT: event lama dibuang dan overlay mulai bersih untuk maze ini
+        events.discard();
+        maze.clearMarks();
+        endCell = -1;
+        for (int cell = 0; cell < maze.size(); cell++) {
+            if (maze.isEnd(cell)) {
+                endCell = cell;
+                break;
+            }
+        }
+        if (maze.rows != rows || maze.cols != cols) {
+            rows = maze.rows;
+            cols = maze.cols;
+            updateSize();
+        }
+        invalidateStaticLayer();
+        this.playerRow = 0;
+        this.playerCol = 0;
+        repaint();
+    }
+
+    public MazeGrid getMaze() {
+        return maze;
+    }
+
+    public int getCellSize() {
+        return cellSize;
+    }
+
+    // Ganti ukuran sel; anchor (koordinat panel) tetap di posisi layar yang sama
+    public void zoom(int size, Point anchor) {
+        size = Math.max(MIN_CELL_SIZE, Math.min(MAX_CELL_SIZE, size));
+        if (size == cellSize) return;
+
+        JViewport viewport = viewport();
+        Point view = viewport != null ? viewport.getViewPosition() : new Point();
+        if (anchor == null) {
+            anchor = viewport != null
+                    ? new Point(view.x + viewport.getWidth() / 2, view.y + viewport.getHeight() / 2)
+                    : new Point();
+        }
+        double cellX = anchor.x / (double) cellSize;
+        double cellY = anchor.y / (double) cellSize;
+
+        cellSize = size;
+        tiles.clear();
+        updateSize();
+        if (viewport != null) {
+            viewport.doLayout();
+            scrollTo((int) Math.round(cellX * size) - (anchor.x - view.x),
+                    (int) Math.round(cellY * size) - (anchor.y - view.y));
+        }
+        repaint();
+    }
+
+    public void scrollTo(int x, int y) {
+        JViewport viewport = viewport();
+        if (viewport == null) return;
+        Dimension view = viewport.getViewSize();
+        Dimension extent = viewport.getExtentSize();
+        x = Math.max(0, Math.min(x, view.width - extent.width));
+        y = Math.max(0, Math.min(y, view.height - extent.height));
+        viewport.setViewPosition(new Point(x, y));
+    }
+
+    private JViewport viewport() {
+        return getParent() instanceof JViewport viewport ? viewport : null;
+    }
+
+    private void updateSize() {
+        setPreferredSize(new Dimension(cols * cellSize, rows * cellSize));
+        revalidate();
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        return getPreferredSize();
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visible, int orientation, int direction) {
+        return Math.max(cellSize, 16);
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visible, int orientation, int direction) {
+        return orientation == SwingConstants.VERTICAL ? visible.height : visible.width;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return false;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return false;
+    }
+
+    public void setPlayerPosition(int row, int col) {
+        repaintCell(playerRow, playerCol);
+        this.playerRow = row;
+        this.playerCol = col;
+        repaintCell(row, col);
+    }
+
+    // Dipanggil di EDT dengan index sel yang di-double-click
+    public void setCellDoubleClickHandler(IntConsumer handler) {
+        this.cellDoubleClick = handler;
+    }
+
+    // Antrian event untuk thread solver (satu producer dalam satu waktu)
+    public CellEventRing events() {
+        return events;
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        frameTimer.start();
+    }
+
+    @Override
+    public void removeNotify() {
+        frameTimer.stop();
+        super.removeNotify();
+    }
+
+    private void flushEvents() {
+        if (events.drain(applyEvent) == 0 || maze == null) return;
+        int count = dirtyCount;
+        boolean overflow = dirtyOverflow;
+        dirtyCount = 0;
+        dirtyOverflow = false;
+        if (overflow) {
+            repaint();
+            return;
+        }
+        if (count == 0) return;
+
+        // Dikelompokkan per tile supaya perubahan yang berjauhan (frontier BFS, pemain + visit jauh)
+        // tidak menggambar ulang seluruh area di antaranya
+        int groups = 0;
+        for (int i = 0; i < count; i++) {
+            int row = maze.row(dirtyCells[i]);
+            int col = maze.col(dirtyCells[i]);
+            long key = ((long) (row * cellSize / TILE_SIZE) << 32) | (col * cellSize / TILE_SIZE);
+            int g = 0;
+            while (g < groups && dirtyTileKeys[g] != key) g++;
+            int[] bounds = dirtyTileBounds[g];
+            if (g == groups) {
+                if (groups == MAX_DIRTY_TILES) {
+                    repaint();
+                    return;
+                }
+                dirtyTileKeys[groups++] = key;
+                bounds[0] = bounds[1] = row;
+                bounds[2] = bounds[3] = col;
+            } else {
+                bounds[0] = Math.min(bounds[0], row);
+                bounds[1] = Math.max(bounds[1], row);
+                bounds[2] = Math.min(bounds[2], col);
+                bounds[3] = Math.max(bounds[3], col);
+            }
+        }
+
+        if (groups == 1) {
+            // Satu area: repaint biasa, RepaintManager menggabungnya dengan repaint lain di tick ini
+            repaint(cellBounds(dirtyTileBounds[0]));
+            return;
+        }
+        // RepaintManager menyatukan semua dirty rect satu komponen jadi satu bounding box, jadi
+        // beberapa repaint() di sini tetap menggambar seluruh area di antaranya. Setiap tile digambar
+        // sendiri; jumlahnya dibatasi MAX_DIRTY_TILES, bukan per sel seperti paintImmediately dulu.
+        for (int g = 0; g < groups; g++) paintImmediately(cellBounds(dirtyTileBounds[g]));
+    }
+
+    // bounds: {minRow, maxRow, minCol, maxCol}
+    private Rectangle cellBounds(int[] bounds) {
+        return new Rectangle(bounds[2] * cellSize, bounds[0] * cellSize,
+                (bounds[3] - bounds[2] + 1) * cellSize, (bounds[1] - bounds[0] + 1) * cellSize);
+    }
+
+    private void applyEvent(int type, int cell) {
+        if (maze == null) return;
+        switch (type) {
+            case CellEventRing.VISIT -> {
+                maze.setVisited(cell);
+                markDirty(cell);
+            }
+            case CellEventRing.PATH -> {
+                maze.setPath(cell);
+                markDirty(cell);
+            }
+            case CellEventRing.PLAYER -> setPlayerPosition(maze.row(cell), maze.col(cell));
+            case CellEventRing.CLEAR -> {
+                maze.clearMarks();
+                dirtyOverflow = true;
+            }
+        }
+    }
+
+    private void markDirty(int cell) {
+        if (dirtyCount == dirtyCells.length) dirtyOverflow = true;
+        else dirtyCells[dirtyCount++] = cell;
+    }
+
+    private void repaintCell(int row, int col) {
+        repaint(col * cellSize, row * cellSize, cellSize, cellSize);
+    }
+
+    // Panggil setiap kali dinding atau terrain berubah
+    public void invalidateStaticLayer() {
+        tiles.clear();
+        overview = null;
+        repaint();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        if (maze == null) return;
+
+        Graphics2D g2d = (Graphics2D) g;
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+        // Hanya sel yang bersinggungan dengan area clip yang digambar
+        Rectangle clip = g2d.getClipBounds();
+        if (clip == null) clip = new Rectangle(0, 0, cols * cellSize, rows * cellSize);
+        boolean detailed = cellSize >= DETAIL_CELL_SIZE;
+        drawTiles(g2d, clip);
+
+        int firstRow = Math.max(0, clip.y / cellSize);
+        int lastRow = Math.min(rows - 1, (clip.y + clip.height - 1) / cellSize);
+        int firstCol = Math.max(0, clip.x / cellSize);
+        int lastCol = Math.min(cols - 1, (clip.x + clip.width - 1) / cellSize);
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                drawOverlay(g2d, maze.index(row, col), detailed);
+            }
+        }
+
+        if (detailed) {
+            SpriteCache sprites = sprites();
+            sprites.drawPlayer(g2d, playerCol * cellSize, playerRow * cellSize);
+            if (endCell >= 0) sprites.drawTrophy(g2d, maze.col(endCell) * cellSize, maze.row(endCell) * cellSize);
+        } else {
+            // Sprite tidak terbaca di ukuran kecil, cukup penanda kotak
+            int marker = Math.max(cellSize, 3);
+            g2d.setColor(PLAYER_MARKER_COLOR);
+            g2d.fillRect(playerCol * cellSize, playerRow * cellSize, marker, marker);
+            if (endCell >= 0) {
+                g2d.setColor(TROPHY_MARKER_COLOR);
+                g2d.fillRect(maze.col(endCell) * cellSize, maze.row(endCell) * cellSize, marker, marker);
+            }
+        }
+    }
+
+    // Dibuat ulang otomatis kalau ukuran sel berubah
+    private SpriteCache sprites() {
+        if (sprites == null || sprites.cellSize() != cellSize) {
+            sprites = new SpriteCache(cellSize, getGraphicsConfiguration());
+        }
+        return sprites;
+    }
+
+    private void drawTiles(Graphics2D g, Rectangle clip) {
+        int maxX = Math.min(clip.x + clip.width, cols * cellSize) - 1;
+        int maxY = Math.min(clip.y + clip.height, rows * cellSize) - 1;
+        for (int ty = Math.max(0, clip.y) / TILE_SIZE; ty <= maxY / TILE_SIZE; ty++) {
+            for (int tx = Math.max(0, clip.x) / TILE_SIZE; tx <= maxX / TILE_SIZE; tx++) {
+                long key = ((long) ty << 32) | tx;
+                BufferedImage tile = tiles.get(key);
+                if (tile == null) {
+                    tile = renderTile(tx * TILE_SIZE, ty * TILE_SIZE);
+                    tiles.put(key, tile);
+                }
+                g.drawImage(tile, tx * TILE_SIZE, ty * TILE_SIZE, null);
+            }
+        }
+    }
+
+    private BufferedImage renderTile(int tileX, int tileY) {
+        if (cellSize < PIXEL_CELL_SIZE) return renderPixelTile(tileX, tileY);
+
+        GraphicsConfiguration config = getGraphicsConfiguration();
+        BufferedImage image = config != null
+                ? config.createCompatibleImage(TILE_SIZE, TILE_SIZE, Transparency.OPAQUE)
+                : new BufferedImage(TILE_SIZE, TILE_SIZE, BufferedImage.TYPE_INT_RGB);
+
+        Graphics2D g = image.createGraphics();
+        g.setColor(getBackground());
+        g.fillRect(0, 0, TILE_SIZE, TILE_SIZE);
+        g.translate(-tileX, -tileY);
+
+        int firstRow = tileY / cellSize;
+        int lastRow = Math.min(rows - 1, (tileY + TILE_SIZE - 1) / cellSize);
+        int firstCol = tileX / cellSize;
+        int lastCol = Math.min(cols - 1, (tileX + TILE_SIZE - 1) / cellSize);
+        Color[] lighter = new Color[4];
+        Color[] darker = new Color[4];
+        Random rand = new Random();
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                int cell = maze.index(row, col);
+                int x = col * cellSize;
+                int y = row * cellSize;
+                Terrain terrain = maze.terrain(cell);
+                if (lighter[terrain.id] == null) {
+                    lighter[terrain.id] = terrain.color.brighter();
+                    darker[terrain.id] = terrain.color.darker();
+                }
+
+                g.setColor(terrain.color);
+                if (cellSize >= DETAIL_CELL_SIZE) {
+                    g.fillRect(x + 1, y + 1, cellSize - 2, cellSize - 2);
+                    rand.setSeed(row * 1000 + col);
+                    drawTerrainTexture(g, rand, lighter[terrain.id], darker[terrain.id], x, y);
+                } else {
+                    g.fillRect(x, y, cellSize, cellSize);
+                }
+                drawWalls(g, cell, x, y);
+            }
+        }
+        g.dispose();
+        return image;
+    }
+
+    // Sel 1-2 piksel: warna ditulis langsung ke array piksel, jauh lebih cepat dari fillRect per sel.
+    // Di ukuran 2, piksel kanan/bawah dipakai untuk dinding sehingga lorong masih terbaca.
+    private BufferedImage renderPixelTile(int tileX, int tileY) {
+        int[] pixels = new int[TILE_SIZE * TILE_SIZE];
+        Arrays.fill(pixels, getBackground().getRGB());
+        int wallRgb = WALL_COLOR.getRGB();
+        int width = Math.min(TILE_SIZE, cols * cellSize - tileX);
+        int height = Math.min(TILE_SIZE, rows * cellSize - tileY);
+        for (int py = 0; py < height; py++) {
+            int row = (tileY + py) / cellSize;
+            boolean bottomPixel = cellSize > 1 && (tileY + py) % cellSize == cellSize - 1;
+            for (int px = 0; px < width; px++) {
+                int col = (tileX + px) / cellSize;
+                int cell = maze.index(row, col);
+                int rgb;
+                if (cellSize == 1) {
+                    rgb = cellRgb(cell);
+                } else {
+                    boolean rightPixel = (tileX + px) % cellSize == cellSize - 1;
+                    boolean wall = (rightPixel && bottomPixel)
+                            || (rightPixel && maze.hasWall(cell, MazeGrid.RIGHT))
+                            || (bottomPixel && maze.hasWall(cell, MazeGrid.BOTTOM));
+                    rgb = wall ? wallRgb : maze.terrain(cell).color.getRGB();
+                }
+                pixels[py * TILE_SIZE + px] = rgb;
+            }
+        }
+        BufferedImage image = new BufferedImage(TILE_SIZE, TILE_SIZE, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(0, 0, TILE_SIZE, TILE_SIZE, pixels, 0, TILE_SIZE);
+        return image;
+    }
+
+    // Sel buntu (tiga dinding) digelapkan supaya struktur lorong tetap terlihat tanpa dinding
+    private int cellRgb(int cell) {
+        return Integer.bitCount(maze.walls(cell)) >= 3 ? WALL_COLOR.getRGB() : maze.terrain(cell).color.getRGB();
+    }
+
+    // Gambar kecil seluruh maze: satu piksel mewakili step x step sel
+    public BufferedImage getOverview() {
+        if (overview == null) {
+            int step = Math.max(1, (Math.max(rows, cols) + OVERVIEW_SIZE - 1) / OVERVIEW_SIZE);
+            int width = (cols + step - 1) / step;
+            int height = (rows + step - 1) / step;
+            int[] pixels = new int[width * height];
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    pixels[y * width + x] = cellRgb(maze.index(y * step, x * step));
+                }
+            }
+            overview = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            overview.setRGB(0, 0, width, height, pixels, 0, width);
+        }
+        return overview;
+    }
+
+    private void drawTerrainTexture(Graphics2D g, Random rand, Color lighter, Color darker, int x, int y) {
+        for (int i = 0; i < 3; i++) {
+            int px = x + rand.nextInt(cellSize - 4) + 2;
+            int py = y + rand.nextInt(cellSize - 4) + 2;
+            g.setColor(rand.nextBoolean() ? lighter : darker);
+            g.fillRect(px, py, 2, 2);
+        }
+    }
+
+    private void drawOverlay(Graphics2D g, int cell, boolean detailed) {
+        boolean path = maze.isPath(cell);
+        if (!path && !maze.isVisited(cell)) return;
+
+        int x = maze.col(cell) * cellSize;
+        int y = maze.row(cell) * cellSize;
+        if (!detailed) {
+            g.setColor(path ? PATH_COLOR : VISITED_COLOR);
+            g.fillRect(x, y, cellSize, cellSize);
+            return;
+        }
+        if (path) {
+            g.setColor(PATH_COLOR);
+            g.fillRect(x + 1, y + 1, cellSize - 2, cellSize - 2);
+            g.setColor(PATH_BORDER_COLOR);
+            g.drawRect(x + 1, y + 1, cellSize - 3, cellSize - 3);
+        } else {
+            g.setColor(VISITED_COLOR);
+            g.fillRect(x + 1, y + 1, cellSize - 2, cellSize - 2);
+        }
+        // Dinding digambar ulang supaya tetap di atas overlay seperti sebelumnya
+        drawWalls(g, cell, x, y);
+    }
+
+    private void drawWalls(Graphics2D g, int cell, int x, int y) {
+        int wall = Math.max(1, Math.min(WALL_SIZE, cellSize / 8));
+        g.setColor(WALL_COLOR);
+        if (maze.hasWall(cell, MazeGrid.TOP)) g.fillRect(x, y, cellSize, wall);
+        if (maze.hasWall(cell, MazeGrid.RIGHT)) g.fillRect(x + cellSize - wall, y, wall, cellSize);
+        if (maze.hasWall(cell, MazeGrid.BOTTOM)) g.fillRect(x, y + cellSize - wall, cellSize, wall);
+        if (maze.hasWall(cell, MazeGrid.LEFT)) g.fillRect(x, y, wall, cellSize);
+    }
+}
@@ -0,0 +1,86 @@
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+import javax.swing.*;
+
+// Peta kecil seluruh maze dari gambar overview MazePanel, plus kotak area yang sedang terlihat.
+// Klik atau drag untuk memindahkan viewport.
+public class MiniMap extends JComponent {
+    private static final int SIZE = 180;
+    private static final Color VIEW_COLOR = new Color(231, 32, 32);
+
+    private final MazePanel mazePanel;
+    private final JViewport viewport;
+
+    public MiniMap(MazePanel mazePanel, JViewport viewport) {
+        this.mazePanel = mazePanel;
+        this.viewport = viewport;
+        setPreferredSize(new Dimension(SIZE, SIZE));
+        setOpaque(true);
+        setBackground(Color.BLACK);
+
+        viewport.addChangeListener(e -> repaint());
+        MouseAdapter navigate = new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                centerOn(e.getPoint());
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                centerOn(e.getPoint());
+            }
+        };
+        addMouseListener(navigate);
+        addMouseMotionListener(navigate);
+    }
+
+    // Tampilkan hanya kalau maze tidak muat di viewport
+    public void updateVisibility() {
+        Dimension view = viewport.getViewSize();
+        Dimension extent = viewport.getExtentSize();
+        boolean needed = view.width > extent.width || view.height > extent.height;
+        if (needed != isVisible()) {
+            setVisible(needed);
+            getParent().revalidate();
+        }
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        g.setColor(getBackground());
+        g.fillRect(0, 0, getWidth(), getHeight());
+        if (mazePanel.getMaze() == null) return;
+
+        Rectangle map = mapBounds();
+        BufferedImage overview = mazePanel.getOverview();
+        Graphics2D g2d = (Graphics2D) g;
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g2d.drawImage(overview, map.x, map.y, map.width, map.height, null);
+
+        double scale = map.width / (double) mazePanel.getWidth();
+        Rectangle view = viewport.getViewRect();
+        g2d.setColor(VIEW_COLOR);
+        g2d.drawRect(map.x + (int) (view.x * scale), map.y + (int) (view.y * scale),
+                Math.max(2, (int) (view.width * scale)), Math.max(2, (int) (view.height * scale)));
+    }
+
+    // Area gambar maze di dalam komponen, rasio dijaga sama dengan maze
+    private Rectangle mapBounds() {
+        int panelWidth = Math.max(1, mazePanel.getWidth());
+        int panelHeight = Math.max(1, mazePanel.getHeight());
+        double scale = Math.min(getWidth() / (double) panelWidth, getHeight() / (double) panelHeight);
+        int width = (int) (panelWidth * scale);
+        int height = (int) (panelHeight * scale);
+        return new Rectangle((getWidth() - width) / 2, (getHeight() - height) / 2, width, height);
+    }
+
+    private void centerOn(Point point) {
+        Rectangle map = mapBounds();
+        double scale = mazePanel.getWidth() / (double) map.width;
+        Rectangle view = viewport.getViewRect();
+        mazePanel.scrollTo((int) ((point.x - map.x) * scale) - view.width / 2,
+                (int) ((point.y - map.y) * scale) - view.height / 2);
+    }
+}
@@ -0,0 +1,102 @@
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Semua pekerjaan latar untuk satu maze/solve (generate, solve, animasi path, jeda musik) berjalan
+// sebagai task milik satu sesi. cancel() menghentikan semuanya tanpa menunggu, jadi aman dipanggil
+// dari EDT. Setiap sesi punya future finished yang baru selesai setelah sesi dibatalkan, semua
+// task-nya benar-benar berhenti, dan finished sesi sebelumnya juga selesai; task sesi baru baru
+// dijadwalkan setelah itu. Karena rantainya menunggu sampai ujung, tidak pernah ada dua sesi yang
+// menulis maze atau antrian event bersamaan, termasuk sesi yang dibatalkan sebelum sempat jalan.
+public class SolveSession {
+    public interface Task {
+        void run(SolveSession session) throws Exception;
+    }
+
+    // Thread platform yang dipakai ulang, supaya SolverWorkspace per thread tidak dialokasikan ulang
+    // setiap klik. Tidak ada task yang memblok menunggu sesi lain, jadi dua thread cukup untuk task
+    // utama plus jeda musiknya.
+    private static final ExecutorService WORKERS = Executors.newFixedThreadPool(2, task -> {
+        Thread thread = new Thread(task, "maze-session");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final CompletableFuture<Void> previousFinished;
+    private final CompletableFuture<Void> finished = new CompletableFuture<>();
+    // Task yang sudah di-fork tapi belum selesai (termasuk yang masih menunggu sesi sebelumnya)
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Set<FutureTask<?>> tasks = ConcurrentHashMap.newKeySet();
+    private volatile boolean cancelled;
+
+    // Membatalkan sesi sebelumnya (kalau ada) dan menjadi penggantinya
+    public SolveSession(SolveSession previous) {
+        if (previous == null) {
+            previousFinished = CompletableFuture.completedFuture(null);
+        } else {
+            previousFinished = previous.finished;
+            previous.cancel();
+        }
+    }
+
+    public Future<?> fork(Task task) {
+        pending.incrementAndGet();
+        FutureTask<Void> future = new FutureTask<>(() -> {
+            if (!cancelled) task.run(this);
+            return null;
+        }) {
+            @Override
+            public void run() {
+                try {
+                    super.run();
+                    if (!isCancelled()) get();
+                } catch (Exception e) {
+                    if (!cancelled && !(e.getCause() instanceof InterruptedException)) e.printStackTrace();
+                } finally {
+                    tasks.remove(this);
+                    taskEnded();
+                }
+            }
+        };
+        tasks.add(future);
+        // Dibatalkan di antara add dan pengecekan ini: cancel() mungkin belum melihat task ini
+        if (cancelled) future.cancel(false);
+        previousFinished.whenComplete((ignored, error) -> WORKERS.execute(future));
+        return future;
+    }
+
+    public boolean isCancelled() {
+        return cancelled || Thread.currentThread().isInterrupted();
+    }
+
+    // Tidak menunggu: flag diset dan semua task di-interrupt
+    public void cancel() {
+        cancelled = true;
+        for (FutureTask<?> task : tasks) task.cancel(true);
+        if (pending.get() == 0) finish();
+    }
+
+    // false kalau sesi dibatalkan selama tidur
+    public boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return !isCancelled();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void taskEnded() {
+        if (pending.decrementAndGet() == 0 && cancelled) finish();
+    }
+
+    private void finish() {
+        previousFinished.whenComplete((ignored, error) -> finished.complete(null));
+    }
+}
@@ -0,0 +1,145 @@
+import javax.sound.sampled.*;
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Efek pendek di-decode sekali ke PCM lalu disimpan di cache; track panjang di-stream langsung
+// dari file. Semuanya dicampur AudioMixer ke satu line. Persiapan suara berjalan di satu thread
+// audio, jadi pemanggil (EDT / thread solver) tidak pernah menunggu.
+public class SoundManager {
+    private static final String[] SOUNDS = {"start.wav", "show_time.wav", "hero.wav", "end.wav"};
+    private static final long MAX_CACHE_BYTES = 16L << 20;
+    // File dengan PCM lebih besar dari ini tidak di-cache tapi di-stream
+    private static final long STREAM_MIN_BYTES = 256 << 10;
+
+    // Diakses hanya dari thread audio
+    private static final Map<String, Sound> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private static long cacheBytes;
+
+    private static final AudioMixer mixer = new AudioMixer();
+    private static final ExecutorService audio = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "audio");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // pcm == null berarti di-stream
+    private record Sound(float sampleRate, short[] pcm, boolean missing) {
+        static final Sound MISSING = new Sound(0, null, true);
+        static final Sound STREAMED = new Sound(0, null, false);
+
+        long bytes() {
+            return pcm != null ? pcm.length * 2L : 0;
+        }
+    }
+
+    // Handle untuk suara yang sedang/akan diputar
+    public static final class Track {
+        private volatile boolean running = true;
+        private volatile AudioMixer.Voice voice;
+
+        public boolean isRunning() {
+            AudioMixer.Voice current = voice;
+            return running && (current == null || !current.isFinished());
+        }
+
+        public void stop() {
+            running = false;
+            AudioMixer.Voice current = voice;
+            if (current != null) current.stop();
+        }
+
+        private void start(String name, boolean loop) {
+            if (!running) return;
+            try {
+                Sound sound = load(name);
+                if (sound.missing()) {
+                    running = false;
+                    return;
+                }
+                AudioMixer.Voice created = sound.pcm() != null
+                        ? new AudioMixer.PcmVoice(sound.pcm(), sound.sampleRate(), loop)
+                        : new AudioMixer.StreamVoice(() -> open(name), loop);
+                voice = created;
+                // stop() bisa saja dipanggil sebelum voice terpasang
+                if (!running) created.stop();
+                if (!mixer.play(created)) running = false;
+            } catch (Exception e) {
+                System.err.println("Error playing sound: " + e.getMessage());
+                running = false;
+            }
+        }
+    }
+
+    // Decode semua aset di background; panggil sekali saat aplikasi mulai
+    public static void preloadAll() {
+        for (String name : SOUNDS) {
+            audio.execute(() -> load(name));
+        }
+    }
+
+    public static Track playSound(String soundFileName) {
+        return play(soundFileName, false);
+    }
+
+    public static Track playSoundLoop(String soundFileName) {
+        return play(soundFileName, true);
+    }
+
+    public static void stopSound(Track track) {
+        if (track != null) track.stop();
+    }
+
+    private static Track play(String name, boolean loop) {
+        Track track = new Track();
+        audio.execute(() -> track.start(name, loop));
+        return track;
+    }
+
+    private static Sound load(String name) {
+        Sound sound = cache.get(name);
+        if (sound != null) return sound;
+
+        sound = decode(name);
+        cache.put(name, sound);
+        cacheBytes += sound.bytes();
+        var it = cache.entrySet().iterator();
+        while (cacheBytes > MAX_CACHE_BYTES && cache.size() > 1) {
+            cacheBytes -= it.next().getValue().bytes();
+            it.remove();
+        }
+        return sound;
+    }
+
+    private static AudioInputStream open(String name) throws Exception {
+        InputStream audioSrc = SoundManager.class.getResourceAsStream("/sound/" + name);
+        if (audioSrc == null) return null;
+        return AudioMixer.toPcm16(AudioSystem.getAudioInputStream(new BufferedInputStream(audioSrc)));
+    }
+
+    // File yang tidak ada dicatat sebagai MISSING supaya tidak dicari ulang setiap kali diputar
+    private static Sound decode(String name) {
+        try (AudioInputStream stream = open(name)) {
+            if (stream == null) {
+                System.err.println("Sound file not found: /sound/" + name);
+                return Sound.MISSING;
+            }
+            AudioFormat format = stream.getFormat();
+            long bytes = stream.getFrameLength() * format.getFrameSize();
+            if (stream.getFrameLength() == AudioSystem.NOT_SPECIFIED || bytes > STREAM_MIN_BYTES) {
+                return Sound.STREAMED;
+            }
+            byte[] data = stream.readAllBytes();
+            int frames = data.length / format.getFrameSize();
+            short[] pcm = new short[frames * 2];
+            AudioMixer.toStereo(data, format.getChannels(), frames, pcm, 0);
+            return new Sound(format.getSampleRate(), pcm, false);
+        } catch (Exception e) {
+            System.err.println("Error loading sound " + name + ": " + e.getMessage());
+            return Sound.MISSING;
+        }
+    }
+}
@@ -1,65 +1,51 @@
 import java.awt.*;
-import java.util.Random;
-import javax.swing.*;
+import java.awt.image.BufferedImage;
 
-public class MazePanel extends JPanel {
-    private Cell[][] maze;
-    private int rows, cols, cellSize;
-    private int playerRow = 0;
-    private int playerCol = 0;
+// Sprite player dan trofi di-rasterize sekali per ukuran sel, lalu cukup di-blit tiap paint.
+// Buat instance baru kalau cellSize berubah (zoom).
+public class SpriteCache {
+    // Trofi sedikit keluar dari kotak sel di ukuran kecil, jadi gambar diberi margin
+    private static final int PAD = 8;
 
-    private static final Color VISITED_COLOR = new Color(9, 8, 8, 99);  // White transparent
-    private static final Color PATH_COLOR = new Color(255, 255, 255);           // Lime Green (#32CD32)
+    private final int cellSize;
+    private final BufferedImage player;
+    private final BufferedImage trophy;
 
-    public MazePanel(int rows, int cols, int cellSize) {
-        this.rows = rows;
-        this.cols = cols;
+    public SpriteCache(int cellSize, GraphicsConfiguration config) {
         this.cellSize = cellSize;
-        this.setPreferredSize(new Dimension(cols * cellSize, rows * cellSize));
-        this.setBackground(new Color(71, 56, 40));
-    }
+        this.player = createImage(config);
+        this.trophy = createImage(config);
 
-    public void setMaze(Cell[][] maze) {
-        this.maze = maze;
-        this.playerRow = 0;
-        this.playerCol = 0;
-        repaint();
-    }
+        Graphics2D g = player.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        renderPlayer(g, PAD, PAD);
+        g.dispose();
 
-    public void setPlayerPosition(int row, int col) {
-        this.playerRow = row;
-        this.playerCol = col;
-        repaint();
+        g = trophy.createGraphics();
+        renderTrophy(g, PAD, PAD);
+        g.dispose();
     }
 
-    @Override
-    protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
-        if (maze == null) return;
+    public int cellSize() {
+        return cellSize;
+    }
 
-        Graphics2D g2d = (Graphics2D) g;
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+    public void drawPlayer(Graphics g, int x, int y) {
+        g.drawImage(player, x - PAD, y - PAD, null);
+    }
 
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                drawCell(g2d, maze[i][j]);
-            }
-        }
+    public void drawTrophy(Graphics g, int x, int y) {
+        g.drawImage(trophy, x - PAD, y - PAD, null);
     }
 
-    private void drawTerrainTexture(Graphics2D g, Cell cell, int x, int y) {
-        Color lighter = cell.terrain.color.brighter();
-        Color darker = cell.terrain.color.darker();
-        Random rand = new Random(cell.row * 1000 + cell.col);
-        for (int i = 0; i < 3; i++) {
-            int px = x + rand.nextInt(cellSize - 4) + 2;
-            int py = y + rand.nextInt(cellSize - 4) + 2;
-            g.setColor(rand.nextBoolean() ? lighter : darker);
-            g.fillRect(px, py, 2, 2);
-        }
+    private BufferedImage createImage(GraphicsConfiguration config) {
+        int size = cellSize + PAD * 2;
+        return config != null
+                ? config.createCompatibleImage(size, size, Transparency.TRANSLUCENT)
+                : new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
     }
 
-    private void drawPixelPlayer(Graphics2D g, int x, int y) {
+    private void renderPlayer(Graphics2D g, int x, int y) {
         int offset = 4;
         int size = cellSize - 8;
         int unit = size / 8;
@@ -105,40 +91,7 @@ public class MazePanel extends JPanel {
         g.fillRect(x + offset + unit*4, y + offset + unit/2, unit, unit/2);
     }
 
-
-    private void drawCell(Graphics2D g, Cell cell) {
-        int x = cell.col * cellSize;
-        int y = cell.row * cellSize;
-
-        g.setColor(cell.terrain.color);
-        g.fillRect(x + 1, y + 1, cellSize - 2, cellSize - 2);
-        drawTerrainTexture(g, cell, x, y);
-
-        if (cell.isPath) {
-            g.setColor(PATH_COLOR);
-            g.fillRect(x + 1, y + 1, cellSize - 2, cellSize - 2);
-            g.setColor(PATH_COLOR.darker());
-            g.drawRect(x + 1, y + 1, cellSize - 3, cellSize - 3);
-        } else if (cell.isVisited) {
-            g.setColor(VISITED_COLOR);
-            g.fillRect(x + 1, y + 1, cellSize - 2, cellSize - 2);
-        }
-
-        g.setColor(new Color(80, 80, 80));
-        int wallSize = 3;
-        if (cell.topWall) g.fillRect(x, y, cellSize, wallSize);
-        if (cell.rightWall) g.fillRect(x + cellSize - wallSize, y, wallSize, cellSize);
-        if (cell.bottomWall) g.fillRect(x, y + cellSize - wallSize, cellSize, wallSize);
-        if (cell.leftWall) g.fillRect(x, y, wallSize, cellSize);
-
-        if (cell.row == playerRow && cell.col == playerCol) {
-            drawPixelPlayer(g, x, y);
-        }
-
-        if (cell.isEnd) drawTrophy(g, x, y);
-    }
-
-    private void drawTrophy(Graphics2D g, int x, int y) {
+    private void renderTrophy(Graphics2D g, int x, int y) {
         int cx = x + cellSize/2;
         int cy = y + cellSize/2;
         int size = cellSize / 3;
@@ -0,0 +1,56 @@
+package maze.bench;
+
+import maze.BatchSolver;
+import maze.MazeGrid;
+import maze.SolveResult;
+import maze.SolverType;
+import maze.WeightedGraph;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Throughput query acak pada satu graph bersama; bandingkan threads=1 dengan jumlah core
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class BatchSolverBenchmark {
+    private static final int QUERIES = 1024;
+
+    @Param({"256x256", "1024x1024"})
+    public String size;
+
+    @Param({"DIJKSTRA", "ASTAR"})
+    public SolverType solver;
+
+    @Param({"1", "4"})
+    public int threads;
+
+    private WeightedGraph graph;
+    private BatchSolver batchSolver;
+    private int[] pairs;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MazeGrid maze = BenchMazes.generate(size);
+        graph = new WeightedGraph(maze);
+        batchSolver = new BatchSolver(threads);
+        SplittableRandom rand = new SplittableRandom(BenchMazes.SEED);
+        pairs = new int[QUERIES * 2];
+        for (int i = 0; i < pairs.length; i++) pairs[i] = rand.nextInt(maze.size());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        batchSolver.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public SolveResult[] solveAll() throws InterruptedException {
+        return batchSolver.solve(graph, pairs, solver);
+    }
+}
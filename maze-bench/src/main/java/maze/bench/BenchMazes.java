@@ -0,0 +1,27 @@
+package maze.bench;
+
+import maze.GeneratorType;
+import maze.MazeGrid;
+import maze.Mazes;
+
+import java.util.SplittableRandom;
+
+final class BenchMazes {
+    static final long SEED = 20240601L;
+
+    private BenchMazes() {
+    }
+
+    // Ukuran ditulis "ROWSxCOLS", contoh 20x32
+    static int rows(String size) {
+        return Integer.parseInt(size.substring(0, size.indexOf('x')));
+    }
+
+    static int cols(String size) {
+        return Integer.parseInt(size.substring(size.indexOf('x') + 1));
+    }
+
+    static MazeGrid generate(String size) {
+        return Mazes.generate(rows(size), cols(size), GeneratorType.PRIM.create(), new SplittableRandom(SEED));
+    }
+}
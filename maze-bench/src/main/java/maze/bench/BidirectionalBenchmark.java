@@ -0,0 +1,47 @@
+package maze.bench;
+
+import maze.BidirectionalSolver;
+import maze.Heuristic;
+import maze.MazeGrid;
+import maze.MazeSolver;
+import maze.SolveResult;
+import maze.WeightedGraph;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Pencarian dua arah satu thread vs dua thread (sisi mundur di thread lain)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class BidirectionalBenchmark {
+    @Param({"1024x1024", "4096x4096"})
+    public String size;
+
+    @Param({"false", "true"})
+    public boolean astar;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private WeightedGraph graph;
+    private MazeSolver solver;
+    private int start, end;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MazeGrid maze = BenchMazes.generate(size);
+        graph = new WeightedGraph(maze);
+        solver = astar ? BidirectionalSolver.astar(Heuristic.MANHATTAN, parallel) : BidirectionalSolver.dijkstra(parallel);
+        start = 0;
+        end = maze.size() - 1;
+    }
+
+    @Benchmark
+    public SolveResult solve() {
+        return solver.solve(graph, start, end);
+    }
+}
@@ -0,0 +1,36 @@
+package maze.bench;
+
+import maze.GeneratorType;
+import maze.MazeGrid;
+import maze.Mazes;
+import maze.TiledGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class GeneratorBenchmark {
+    @Param({"20x32", "256x256", "1024x1024", "4096x4096"})
+    public String size;
+
+    @Param({"PRIM", "KRUSKAL", "WILSON", "ELLER"})
+    public GeneratorType generator;
+
+    @Benchmark
+    public MazeGrid sequential() {
+        return Mazes.generate(BenchMazes.rows(size), BenchMazes.cols(size), generator.create(),
+                new SplittableRandom(BenchMazes.SEED));
+    }
+
+    @Benchmark
+    public MazeGrid tiled() {
+        return new TiledGenerator(generator.create())
+                .generate(BenchMazes.rows(size), BenchMazes.cols(size), BenchMazes.SEED);
+    }
+}
@@ -0,0 +1,30 @@
+package maze.bench;
+
+import maze.MazeGrid;
+import maze.WeightedGraph;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class GraphBenchmark {
+    @Param({"20x32", "256x256", "1024x1024", "4096x4096"})
+    public String size;
+
+    private MazeGrid maze;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        maze = BenchMazes.generate(size);
+    }
+
+    @Benchmark
+    public WeightedGraph build() {
+        return new WeightedGraph(maze);
+    }
+}
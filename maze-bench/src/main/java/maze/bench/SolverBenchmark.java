@@ -0,0 +1,54 @@
+package maze.bench;
+
+import maze.Heuristic;
+import maze.Landmarks;
+import maze.MazeGrid;
+import maze.MazeSolver;
+import maze.SolveResult;
+import maze.SolverType;
+import maze.WeightedGraph;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class SolverBenchmark {
+    private static final String ALT_SUFFIX = "_ALT";
+
+    @Param({"20x32", "256x256", "1024x1024", "4096x4096"})
+    public String size;
+
+    // Heuristic ikut di nama solver supaya tidak disilangkan dengan solver yang tidak memakainya:
+    // varian A* polos memakai Manhattan berskala bobot minimum, akhiran _ALT memakai landmark
+    @Param({"BFS", "DFS", "DIJKSTRA", "ASTAR", "ASTAR_ALT", "BIDIRECTIONAL_DIJKSTRA", "BIDIRECTIONAL_ASTAR",
+            "BIDIRECTIONAL_ASTAR_ALT", "CORRIDOR_DIJKSTRA"})
+    public String solver;
+
+    private WeightedGraph graph;
+    private MazeSolver mazeSolver;
+    private int start, end;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MazeGrid maze = BenchMazes.generate(size);
+        graph = new WeightedGraph(maze);
+        if (solver.endsWith(ALT_SUFFIX)) {
+            SolverType type = SolverType.valueOf(solver.substring(0, solver.length() - ALT_SUFFIX.length()));
+            mazeSolver = type.create(Landmarks.compute(graph, Landmarks.DEFAULT_COUNT));
+        } else {
+            mazeSolver = SolverType.valueOf(solver).create(Heuristic.MANHATTAN);
+        }
+        start = 0;
+        end = maze.size() - 1;
+    }
+
+    @Benchmark
+    public SolveResult solve() {
+        return mazeSolver.solve(graph, start, end);
+    }
+}
@@ -0,0 +1,64 @@
+package maze;
+
+// Heuristic harus admissible dan konsisten (MANHATTAN berskala bobot minimum, atau Landmarks);
+// sel yang sudah closed tidak pernah dibuka lagi, jadi hasilnya selalu sama optimal dengan Dijkstra.
+public class AStarSolver implements MazeSolver {
+    private final QueueType queueType;
+    private final Heuristic heuristic;
+
+    public AStarSolver() {
+        this(QueueType.BUCKET, Heuristic.MANHATTAN);
+    }
+
+    public AStarSolver(Heuristic heuristic) {
+        this(QueueType.BUCKET, heuristic);
+    }
+
+    public AStarSolver(QueueType queueType) {
+        this(queueType, Heuristic.MANHATTAN);
+    }
+
+    public AStarSolver(QueueType queueType, Heuristic heuristic) {
+        this.queueType = queueType;
+        this.heuristic = heuristic;
+    }
+
+    @Override
+    public SolveResult solve(WeightedGraph graph, int start, int end, SolveListener listener) {
+        long startNanos = System.nanoTime();
+        SolverWorkspace ws = SolverWorkspace.forThread(graph.size());
+        // Heuristic konsisten: f naik paling banyak w(v) + w(u) per langkah
+        IntPriorityQueue pq = ws.queue(queueType, 2 * graph.maxWeight());
+        int expanded = 0;
+
+        ws.reach(start, 0, start);
+        pq.push(start, heuristic.estimate(graph, start, end));
+
+        while (!pq.isEmpty() && !listener.isCancelled()) {
+            int current = pq.pop();
+
+            if (ws.isClosed(current)) continue;
+            ws.close(current);
+            expanded++;
+            listener.onVisit(current);
+
+            if (current == end) {
+                return SolveResult.fromParents(graph, ws, start, end, expanded, startNanos);
+            }
+
+            int currentG = ws.dist(current);
+            for (int e = graph.firstEdge(current), last = graph.endEdge(current); e < last; e++) {
+                int neighbor = graph.target(e);
+                if (!ws.isClosed(neighbor)) {
+                    int tentativeG = currentG + graph.edgeWeight(e);
+                    if (tentativeG < ws.dist(neighbor)) {
+                        ws.reach(neighbor, tentativeG, current);
+                        int f = tentativeG + heuristic.estimate(graph, neighbor, end);
+                        pq.push(neighbor, f);
+                    }
+                }
+            }
+        }
+        return SolveResult.notFound(expanded, startNanos);
+    }
+}
@@ -0,0 +1,33 @@
+package maze;
+
+public class BFSSolver implements MazeSolver {
+    @Override
+    public SolveResult solve(WeightedGraph graph, int start, int end, SolveListener listener) {
+        long startNanos = System.nanoTime();
+        SolverWorkspace ws = SolverWorkspace.forThread(graph.size());
+        int[] queue = ws.buffer();
+        int head = 0, tail = 0;
+        int expanded = 0;
+        queue[tail++] = start;
+        ws.reach(start, 0, start);
+
+        while (head < tail && !listener.isCancelled()) {
+            int current = queue[head++];
+            expanded++;
+            listener.onVisit(current);
+
+            if (current == end) {
+                return SolveResult.fromParents(graph, ws, start, end, expanded, startNanos);
+            }
+
+            for (int e = graph.firstEdge(current), last = graph.endEdge(current); e < last; e++) {
+                int neighbor = graph.target(e);
+                if (!ws.isSeen(neighbor)) {
+                    ws.reach(neighbor, 0, current);
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+        return SolveResult.notFound(expanded, startNanos);
+    }
+}
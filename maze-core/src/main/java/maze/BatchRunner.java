@@ -0,0 +1,279 @@
+package maze;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Mode tanpa layar: generate + solve banyak maze secara paralel, hasil ditulis sebagai CSV atau JSON lines.
+// Satu baris per (maze, solver), urutannya selalu sama dengan urutan konfigurasi berapa pun jumlah thread.
+// Dengan --stream hanya satu maze Eller yang ditulis langsung ke file, untuk maze yang tidak muat di RAM.
+public final class BatchRunner {
+    private static final String USAGE = String.join("\n",
+            "Usage: BatchRunner [options]",
+            "  --size RxC[,RxC...]     maze sizes (default 20x32)",
+            "  --rows N --cols N       single maze size",
+            "  --seed N                first seed (default 1)",
+            "  --runs N                mazes per configuration, seeds seed..seed+runs-1 (default 1)",
+            "  --loops R[,R...]        loop ratios (default " + Mazes.DEFAULT_LOOP_RATIO + ")",
+            "  --terrain S,G,D,L       terrain weights stone,grass,sand,lava (default " + TerrainMix.DEFAULT + ")",
+            "  --generator G[,G...]    " + names(GeneratorType.values()) + " or all (default PRIM)",
+            "  --solver S[,S...]       " + names(SolverType.values()) + " or all (default all)",
+            "  --landmarks N           ALT landmarks for the A* solvers, 0 = scaled Manhattan; landmark_ms is only\n"
+                    + "                          reported on A* rows (default "
+                    + Landmarks.DEFAULT_COUNT + ")",
+            "  --threads N             worker threads (default: all cores)",
+            "  --format csv|json       output format (default csv)",
+            "  --out FILE              output file (default stdout)",
+            "  --stream FILE           only generate one ELLER maze (one --size, --seed, --loops, --terrain) and",
+            "                          write it row by row to FILE in MazeFile format, without holding it in memory");
+
+    private static final String CSV_HEADER = "rows,cols,generator,loop_ratio,terrain,seed,solver,found,cost,"
+            + "length,expanded,generate_ms,graph_ms,solve_ms,landmark_ms";
+
+    public static class Config {
+        public final List<int[]> sizes = new ArrayList<>();
+        public final List<Double> loopRatios = new ArrayList<>();
+        public final List<GeneratorType> generators = new ArrayList<>();
+        public final List<SolverType> solvers = new ArrayList<>();
+        public TerrainMix terrain = TerrainMix.DEFAULT;
+        public long seed = 1;
+        public int runs = 1;
+        public int landmarks = Landmarks.DEFAULT_COUNT;
+        public int threads = Runtime.getRuntime().availableProcessors();
+        public boolean json;
+        public String out;
+        public String stream;
+
+        public static Config parse(String[] args) {
+            Config config = new Config();
+            int rows = -1, cols = -1;
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (i + 1 >= args.length) throw new IllegalArgumentException("Missing value for " + option);
+                String value = args[++i];
+                switch (option) {
+                    case "--size" -> {
+                        for (String size : value.split(",")) {
+                            String[] rc = size.toLowerCase(Locale.ROOT).split("x");
+                            if (rc.length != 2) throw new IllegalArgumentException("Bad size: " + size);
+                            config.sizes.add(new int[]{Integer.parseInt(rc[0].trim()), Integer.parseInt(rc[1].trim())});
+                        }
+                    }
+                    case "--rows" -> rows = Integer.parseInt(value);
+                    case "--cols" -> cols = Integer.parseInt(value);
+                    case "--seed" -> config.seed = Long.parseLong(value);
+                    case "--runs" -> config.runs = Integer.parseInt(value);
+                    case "--loops" -> {
+                        for (String ratio : value.split(",")) config.loopRatios.add(Double.parseDouble(ratio.trim()));
+                    }
+                    case "--terrain" -> config.terrain = TerrainMix.parse(value);
+                    case "--generator" -> config.generators.addAll(parseList(value, GeneratorType.class));
+                    case "--solver" -> config.solvers.addAll(parseList(value, SolverType.class));
+                    case "--threads" -> config.threads = Integer.parseInt(value);
+                    case "--landmarks" -> config.landmarks = Integer.parseInt(value);
+                    case "--format" -> {
+                        if (!value.equals("csv") && !value.equals("json")) {
+                            throw new IllegalArgumentException("Unknown format: " + value);
+                        }
+                        config.json = value.equals("json");
+                    }
+                    case "--out" -> config.out = value;
+                    case "--stream" -> config.stream = value;
+                    default -> throw new IllegalArgumentException("Unknown option: " + option);
+                }
+            }
+
+            if (rows > 0 || cols > 0) {
+                config.sizes.add(new int[]{rows > 0 ? rows : 20, cols > 0 ? cols : 32});
+            }
+            if (config.stream != null) {
+                // Hanya Eller yang bisa menulis baris demi baris tanpa MazeGrid
+                if (config.generators.stream().anyMatch(g -> g != GeneratorType.ELLER)) {
+                    throw new IllegalArgumentException("--stream only supports the ELLER generator");
+                }
+                if (config.sizes.size() > 1 || config.loopRatios.size() > 1) {
+                    throw new IllegalArgumentException("--stream writes a single maze: give one size and loop ratio");
+                }
+                config.generators.add(GeneratorType.ELLER);
+            }
+            if (config.sizes.isEmpty()) config.sizes.add(new int[]{20, 32});
+            if (config.loopRatios.isEmpty()) config.loopRatios.add(Mazes.DEFAULT_LOOP_RATIO);
+            if (config.generators.isEmpty()) config.generators.add(GeneratorType.PRIM);
+            if (config.solvers.isEmpty()) config.solvers.addAll(List.of(SolverType.values()));
+            for (int[] size : config.sizes) {
+                if (size[0] < 1 || size[1] < 1) throw new IllegalArgumentException("Bad size: " + size[0] + "x" + size[1]);
+            }
+            if (config.runs < 1 || config.threads < 1) throw new IllegalArgumentException("runs and threads must be >= 1");
+            if (config.landmarks < 0) throw new IllegalArgumentException("landmarks must be >= 0");
+            return config;
+        }
+    }
+
+    private BatchRunner() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (List.of(args).contains("--help")) {
+            System.out.println(USAGE);
+            return;
+        }
+        Config config;
+        try {
+            config = Config.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        if (config.stream != null) {
+            stream(config, System.out);
+        } else if (config.out == null) {
+            run(config, System.out);
+            System.out.flush();
+        } else {
+            try (OutputStream file = new FileOutputStream(config.out);
+                 PrintStream out = new PrintStream(file, false, "UTF-8")) {
+                run(config, out);
+            }
+        }
+    }
+
+    // Maze Eller langsung ke file lewat MazeFile.Writer: memori O(cols), jadi ukurannya hanya dibatasi disk
+    public static void stream(Config config, PrintStream out) throws IOException {
+        int rows = config.sizes.get(0)[0];
+        int cols = config.sizes.get(0)[1];
+        long start = System.nanoTime();
+        try (OutputStream file = new FileOutputStream(config.stream);
+             MazeFile.Writer writer = new MazeFile.Writer(file, rows, cols)) {
+            new EllerGenerator(rows, cols, config.loopRatios.get(0), config.terrain)
+                    .generate(new SplittableRandom(config.seed), writer);
+        }
+        out.println("Wrote " + rows + "x" + cols + " maze (" + (long) rows * cols + " cells) to " + config.stream
+                + " in " + millis(System.nanoTime() - start) + " ms");
+    }
+
+    public static void run(Config config, PrintStream out) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(config.threads);
+        try {
+            List<Future<String>> jobs = new ArrayList<>();
+            for (int[] size : config.sizes) {
+                for (GeneratorType generator : config.generators) {
+                    for (double loopRatio : config.loopRatios) {
+                        for (int run = 0; run < config.runs; run++) {
+                            long seed = config.seed + run;
+                            jobs.add(pool.submit(() -> runMaze(config, size[0], size[1], generator, loopRatio, seed)));
+                        }
+                    }
+                }
+            }
+
+            if (!config.json) out.println(CSV_HEADER);
+            for (int i = 0; i < jobs.size(); i++) {
+                try {
+                    out.print(jobs.get(i).get());
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Batch job failed", e.getCause());
+                }
+                jobs.set(i, null);  // Hasil yang sudah ditulis boleh dibuang
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // Satu maze, semua solver; dikembalikan sebagai baris-baris output yang sudah jadi
+    private static String runMaze(Config config, int rows, int cols, GeneratorType generator,
+                                  double loopRatio, long seed) {
+        long t0 = System.nanoTime();
+        MazeGrid maze = new MazeGrid(rows, cols);
+        Mazes.generate(maze, generator.create(), new SplittableRandom(seed), loopRatio, config.terrain);
+        long t1 = System.nanoTime();
+        WeightedGraph graph = new WeightedGraph(maze);
+        long t2 = System.nanoTime();
+        // Landmark hanya dihitung kalau ada varian A* yang memakainya
+        boolean needsLandmarks = config.landmarks > 0 && config.solvers.stream().anyMatch(SolverType::usesHeuristic);
+        Heuristic heuristic = needsLandmarks ? Landmarks.compute(graph, config.landmarks) : Heuristic.MANHATTAN;
+        long t3 = System.nanoTime();
+
+        StringBuilder lines = new StringBuilder();
+        int start = 0;
+        int end = maze.size() - 1;
+        for (SolverType solver : config.solvers) {
+            SolveResult result = solver.create(heuristic).solve(graph, start, end);
+            String generateMs = millis(t1 - t0);
+            String graphMs = millis(t2 - t1);
+            String solveMs = millis(result.elapsedNanos);
+            // Kosong (null di JSON) untuk solver yang tidak memakai heuristic
+            String landmarkMs = solver.usesHeuristic() ? millis(t3 - t2) : "";
+            if (config.json) {
+                lines.append("{\"rows\":").append(rows)
+                        .append(",\"cols\":").append(cols)
+                        .append(",\"generator\":\"").append(generator.name())
+                        .append("\",\"loop_ratio\":").append(loopRatio)
+                        .append(",\"terrain\":\"").append(config.terrain)
+                        .append("\",\"seed\":").append(seed)
+                        .append(",\"solver\":\"").append(solver.name())
+                        .append("\",\"found\":").append(result.found())
+                        .append(",\"cost\":").append(result.cost)
+                        .append(",\"length\":").append(result.path.length)
+                        .append(",\"expanded\":").append(result.expanded)
+                        .append(",\"generate_ms\":").append(generateMs)
+                        .append(",\"graph_ms\":").append(graphMs)
+                        .append(",\"solve_ms\":").append(solveMs)
+                        .append(",\"landmark_ms\":").append(landmarkMs.isEmpty() ? "null" : landmarkMs)
+                        .append("}\n");
+            } else {
+                lines.append(rows).append(',').append(cols).append(',')
+                        .append(generator.name()).append(',').append(loopRatio).append(',')
+                        .append('"').append(config.terrain).append("\",")
+                        .append(seed).append(',').append(solver.name()).append(',')
+                        .append(result.found()).append(',').append(result.cost).append(',')
+                        .append(result.path.length).append(',').append(result.expanded).append(',')
+                        .append(generateMs).append(',').append(graphMs).append(',').append(solveMs).append(',').append(landmarkMs)
+                        .append('\n');
+            }
+        }
+        return lines.toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1e6);
+    }
+
+    private static <E extends Enum<E>> List<E> parseList(String value, Class<E> type) {
+        List<E> list = new ArrayList<>();
+        for (String name : value.split(",")) {
+            name = name.trim().toUpperCase(Locale.ROOT);
+            if (name.equals("ALL")) {
+                list.addAll(List.of(type.getEnumConstants()));
+            } else {
+                try {
+                    list.add(Enum.valueOf(type, name.equals("A*") ? "ASTAR" : name));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Unknown " + type.getSimpleName() + ": " + name);
+                }
+            }
+        }
+        return list;
+    }
+
+    private static String names(Enum<?>[] values) {
+        StringBuilder names = new StringBuilder();
+        for (Enum<?> value : values) {
+            if (names.length() > 0) names.append('|');
+            names.append(value.name());
+        }
+        return names.toString();
+    }
+}
@@ -0,0 +1,89 @@
+package maze;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Menjawab banyak query (start, end) atas satu WeightedGraph yang read-only secara paralel.
+// Query dibagi jadi potongan kecil yang diambil bergiliran oleh worker, sehingga query yang lambat
+// tidak membuat satu thread tertinggal. Tiap worker memakai solver dan SolverWorkspace miliknya
+// sendiri (ThreadLocal di thread platform pool), dan hasil ditulis ke indeks query-nya, jadi urutan
+// hasil selalu sama dengan urutan input.
+public class BatchSolver implements AutoCloseable {
+    // Target jumlah potongan per worker; cukup untuk meratakan beban tanpa terlalu sering sinkronisasi
+    private static final int CHUNKS_PER_WORKER = 8;
+
+    private final ExecutorService pool;
+    private final int parallelism;
+    private final boolean ownsPool;
+
+    public BatchSolver(int threads) {
+        this(Executors.newFixedThreadPool(threads), threads, true);
+    }
+
+    // Pool milik pemanggil; harus berisi thread platform dan tidak boleh dipanggil dari dalam pool itu sendiri
+    public BatchSolver(ExecutorService pool, int parallelism) {
+        this(pool, parallelism, false);
+    }
+
+    private BatchSolver(ExecutorService pool, int parallelism, boolean ownsPool) {
+        if (parallelism < 1) throw new IllegalArgumentException("parallelism must be >= 1");
+        this.pool = pool;
+        this.parallelism = parallelism;
+        this.ownsPool = ownsPool;
+    }
+
+    public SolveResult[] solve(WeightedGraph graph, int[] pairs, SolverType type) throws InterruptedException {
+        return solve(graph, pairs, type, Heuristic.MANHATTAN);
+    }
+
+    // pairs berisi start dan end bergantian: {start0, end0, start1, end1, ...}
+    public SolveResult[] solve(WeightedGraph graph, int[] pairs, SolverType type, Heuristic heuristic)
+            throws InterruptedException {
+        if (pairs.length % 2 != 0) throw new IllegalArgumentException("pairs must hold start/end pairs");
+        int count = pairs.length / 2;
+        SolveResult[] results = new SolveResult[count];
+        if (count == 0) return results;
+
+        int chunk = Math.max(1, count / (parallelism * CHUNKS_PER_WORKER));
+        int chunks = (count + chunk - 1) / chunk;
+        int workers = Math.min(parallelism, chunks);
+        AtomicInteger nextChunk = new AtomicInteger();
+
+        List<Future<?>> tasks = new ArrayList<>(workers);
+        try {
+            for (int w = 0; w < workers; w++) {
+                tasks.add(pool.submit(() -> {
+                    MazeSolver solver = type.create(heuristic);
+                    for (int c; (c = nextChunk.getAndIncrement()) < chunks; ) {
+                        int end = Math.min(count, (c + 1) * chunk);
+                        for (int i = c * chunk; i < end; i++) {
+                            if (Thread.currentThread().isInterrupted()) return;
+                            results[i] = solver.solve(graph, pairs[i * 2], pairs[i * 2 + 1]);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            // Kalau dibatalkan atau gagal, hentikan potongan yang masih tersisa
+            nextChunk.set(chunks);
+            for (Future<?> task : tasks) task.cancel(true);
+        }
+        return results;
+    }
+
+    @Override
+    public void close() {
+        if (ownsPool) pool.shutdownNow();
+    }
+}
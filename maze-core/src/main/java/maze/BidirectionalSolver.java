@@ -0,0 +1,278 @@
+package maze;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Dijkstra / A* dua arah: pencarian maju dari start dan mundur dari end, bertemu di tengah.
+// Cost edge u -> v = bobot v, jadi sisi mundur yang mengambil v merelaksasi tetangga u dengan
+// dist(v) + w(v). Pertemuan dicatat pada edge antara sel yang sudah closed di sisi maju dan sel
+// yang sudah closed di sisi mundur; mu = cost jalur terbaik yang sudah ditemukan.
+// A* memakai potensial rata-rata: kunci maju 2g + hf - hr, kunci mundur 2r + hr - hf (hf = perkiraan
+// ke end, hr = perkiraan dari start; dikali 2 supaya tetap integer). Dengan heuristic konsisten cost
+// tereduksinya tidak negatif, jadi kriteria berhenti Dijkstra dua arah tetap berlaku:
+// topMaju + topMundur >= 2 * mu. Dijkstra adalah kasus heuristic nol.
+// Mode paralel menjalankan sisi mundur di thread lain. Status closed dibaca/ditulis volatile supaya
+// dua sel bertetangga yang di-close bersamaan pasti terlihat oleh minimal satu sisi, dan mu + edge
+// pertemuan dikemas dalam satu AtomicLong. Listener harus thread-safe di mode ini.
+public class BidirectionalSolver implements MazeSolver {
+    private static final int INF = SolverWorkspace.INF;
+    private static final long NO_MEETING = Long.MAX_VALUE;
+    // Edge pertemuan dikemas sebagai sel * 4 + arah di 32 bit bawah (lihat offer)
+    static final int MAX_CELLS = 1 << 30;
+
+    // Thread platform untuk sisi mundur; workspace-nya tetap milik thread pemanggil
+    private static final ExecutorService HELPERS = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, "bidirectional-reverse");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Heuristic heuristic;
+    private final boolean parallel;
+
+    private BidirectionalSolver(Heuristic heuristic, boolean parallel) {
+        this.heuristic = heuristic;
+        this.parallel = parallel;
+    }
+
+    public static BidirectionalSolver dijkstra(boolean parallel) {
+        return new BidirectionalSolver(Heuristic.ZERO, parallel);
+    }
+
+    // heuristic wajib admissible dan konsisten
+    public static BidirectionalSolver astar(Heuristic heuristic, boolean parallel) {
+        return new BidirectionalSolver(heuristic, parallel);
+    }
+
+    @Override
+    public SolveResult solve(WeightedGraph graph, int start, int end, SolveListener listener) {
+        long startNanos = System.nanoTime();
+        if (graph.size() > MAX_CELLS) {
+            throw new IllegalArgumentException("Bidirectional search supports at most " + MAX_CELLS + " cells, got " + graph.size());
+        }
+        if (start == end) {
+            listener.onVisit(start);
+            return new SolveResult(new int[]{start}, 0, 1, System.nanoTime() - startNanos);
+        }
+
+        // Kedua workspace disiapkan di thread ini sebelum thread pembantu mulai
+        Side forward = new Side(graph, SolverWorkspace.forThread(graph.size()), true, start, end);
+        Side reverse = new Side(graph, SolverWorkspace.reverseForThread(graph.size()), false, end, start);
+        forward.other = reverse;
+        reverse.other = forward;
+        AtomicLong best = new AtomicLong(NO_MEETING);
+
+        if (parallel) {
+            runParallel(forward, reverse, best, listener);
+        } else {
+            runSequential(forward, reverse, best, listener);
+        }
+
+        int expanded = forward.expanded + reverse.expanded;
+        long meeting = best.get();
+        if (meeting == NO_MEETING || listener.isCancelled()) return SolveResult.notFound(expanded, startNanos);
+        return buildPath(graph, forward.ws, reverse.ws, start, end, meeting, expanded, startNanos);
+    }
+
+    private void runSequential(Side forward, Side reverse, AtomicLong best, SolveListener listener) {
+        while (!listener.isCancelled()) {
+            int topForward = forward.peek();
+            int topReverse = reverse.peek();
+            if (topForward == INF || topReverse == INF) {
+                (topForward == INF ? forward : reverse).offerGoal(best);
+                return;
+            }
+            if (shouldStop(topForward, topReverse, best.get())) return;
+            (topForward <= topReverse ? forward : reverse).step(best, listener);
+        }
+    }
+
+    private void runParallel(Side forward, Side reverse, AtomicLong best, SolveListener listener) {
+        forward.shared = true;
+        reverse.shared = true;
+        AtomicBoolean done = new AtomicBoolean();
+        Future<?> helper = HELPERS.submit(() -> runSide(reverse, best, done, listener));
+        try {
+            runSide(forward, best, done, listener);
+        } finally {
+            // runSide sudah menyetelnya kalau selesai normal; ini untuk sisi maju yang gagal di tengah jalan
+            done.set(true);
+            // Tunggu sampai selesai walau di-interrupt: workspace mundur akan dipakai ulang thread ini
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    helper.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runSide(Side side, AtomicLong best, AtomicBoolean done, SolveListener listener) {
+        while (!done.get() && !listener.isCancelled()) {
+            if (!side.step(best, listener)) {
+                side.offerGoal(best);
+                break;
+            }
+            if (shouldStop(side.top, side.other.top, best.get())) break;
+        }
+        done.set(true);
+    }
+
+    private boolean shouldStop(int topForward, int topReverse, long meeting) {
+        if (meeting == NO_MEETING) return false;
+        long mu = meeting >>> 32;
+        return (long) topForward + topReverse >= 2 * mu;
+    }
+
+    // Dikemas: cost di 32 bit atas, sel sisi maju * 4 + arah ke sel sisi mundur di 32 bit bawah
+    private static void offer(AtomicLong best, WeightedGraph graph, int cost, int forwardCell, int reverseCell) {
+        long packed = ((long) cost << 32) | ((long) forwardCell << 2) | direction(graph, reverseCell - forwardCell);
+        if (packed < best.get()) best.accumulateAndGet(packed, Math::min);
+    }
+
+    private static int direction(WeightedGraph graph, int delta) {
+        if (delta == -graph.cols) return 0;
+        if (delta == 1) return 1;
+        if (delta == graph.cols) return 2;
+        return 3;
+    }
+
+    private static int step(WeightedGraph graph, int direction) {
+        return switch (direction) {
+            case 0 -> -graph.cols;
+            case 1 -> 1;
+            case 2 -> graph.cols;
+            default -> -1;
+        };
+    }
+
+    private static SolveResult buildPath(WeightedGraph graph, SolverWorkspace forwardWs, SolverWorkspace reverseWs,
+                                         int start, int end, long meeting, int expanded, long startNanos) {
+        int cost = (int) (meeting >>> 32);
+        int low = (int) meeting;
+        int forwardCell = low >>> 2;
+        int reverseCell = forwardCell + step(graph, low & 3);
+
+        int forwardLength = 1;
+        for (int cell = forwardCell; cell != start; cell = forwardWs.parent(cell)) forwardLength++;
+        int reverseLength = 1;
+        for (int cell = reverseCell; cell != end; cell = reverseWs.parent(cell)) reverseLength++;
+
+        int[] path = new int[forwardLength + reverseLength];
+        int cell = forwardCell;
+        for (int i = forwardLength - 1; i >= 0; i--) {
+            path[i] = cell;
+            cell = forwardWs.parent(cell);
+        }
+        // Parent sisi mundur menunjuk ke sel berikutnya menuju end
+        cell = reverseCell;
+        for (int i = forwardLength; i < path.length; i++) {
+            path[i] = cell;
+            cell = reverseWs.parent(cell);
+        }
+        return new SolveResult(path, cost, expanded, System.nanoTime() - startNanos);
+    }
+
+    private final class Side {
+        final WeightedGraph graph;
+        final SolverWorkspace ws;
+        final IntPriorityQueue queue;
+        final boolean forward;
+        final int origin, goal;
+        Side other;
+        boolean shared;
+        int expanded;
+        // Kunci sel terakhir yang diambil dari antrian (INF kalau habis), dibaca sisi lain di mode paralel.
+        // Kunci berikutnya tidak pernah lebih kecil, jadi nilai basi tetap batas bawah yang aman.
+        volatile int top;
+
+        Side(WeightedGraph graph, SolverWorkspace ws, boolean forward, int origin, int goal) {
+            this.graph = graph;
+            this.ws = ws;
+            this.forward = forward;
+            this.origin = origin;
+            this.goal = goal;
+            // Per langkah kunci naik 2w ditambah selisih dua heuristic, masing-masing paling banyak maxWeight
+            this.queue = ws.queue(QueueType.BUCKET, 4 * graph.maxWeight());
+            ws.reach(origin, 0, origin);
+            top = potential(origin);
+            queue.push(origin, top);
+        }
+
+        // Sisi maju: hf - hr, sisi mundur: hr - hf
+        int potential(int cell) {
+            if (heuristic == Heuristic.ZERO) return 0;
+            if (forward) return heuristic.estimate(graph, cell, goal) - heuristic.estimate(graph, origin, cell);
+            return heuristic.estimate(graph, goal, cell) - heuristic.estimate(graph, cell, origin);
+        }
+
+        int peek() {
+            return queue.isEmpty() ? INF : queue.peekPriority();
+        }
+
+        boolean isClosed(int cell) {
+            return shared ? ws.isClosedShared(cell) : ws.isClosed(cell);
+        }
+
+        // Antrian habis: semua sel terjangkau sudah closed, termasuk goal kalau terjangkau, jadi dist(goal)
+        // sudah pasti walau sisi lain belum mengambil apa pun (heuristic yang tepat membuat semua kunci
+        // sama). Dicatat sebagai pertemuan di edge terakhir menuju goal, yang origin sisi lain.
+        void offerGoal(AtomicLong best) {
+            if (!ws.isClosed(goal)) return;
+            int last = ws.parent(goal);
+            if (forward) offer(best, graph, ws.dist(goal), last, goal);
+            else offer(best, graph, ws.dist(goal), goal, last);
+        }
+
+        // false kalau antrian habis
+        boolean step(AtomicLong best, SolveListener listener) {
+            int current;
+            do {
+                if (queue.isEmpty()) {
+                    top = INF;
+                    return false;
+                }
+                int key = queue.peekPriority();
+                if (shared) top = key;
+                current = queue.pop();
+            } while (ws.isClosed(current));
+
+            if (shared) ws.closeShared(current);
+            else ws.close(current);
+            expanded++;
+            listener.onVisit(current);
+
+            int dist = ws.dist(current);
+            int currentWeight = graph.weight(current);
+            for (int e = graph.firstEdge(current), last = graph.endEdge(current); e < last; e++) {
+                int neighbor = graph.target(e);
+                // Maju: masuk ke neighbor membayar bobot neighbor. Mundur: dari neighbor masuk ke current.
+                int stepCost = forward ? graph.edgeWeight(e) : currentWeight;
+                if (other.isClosed(neighbor)) {
+                    int cost = dist + stepCost + other.ws.dist(neighbor);
+                    if (forward) offer(best, graph, cost, current, neighbor);
+                    else offer(best, graph, cost, neighbor, current);
+                }
+                if (!ws.isClosed(neighbor)) {
+                    int next = dist + stepCost;
+                    if (next < ws.dist(neighbor)) {
+                        ws.reach(neighbor, next, current);
+                        queue.push(neighbor, 2 * next + potential(neighbor));
+                    }
+                }
+            }
+            return true;
+        }
+    }
+}
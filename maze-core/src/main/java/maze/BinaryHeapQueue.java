@@ -0,0 +1,62 @@
+package maze;
+
+import java.util.Arrays;
+
+public class BinaryHeapQueue implements IntPriorityQueue {
+    private int[] cells = new int[64];
+    private int[] priorities = new int[64];
+    private int size;
+
+    @Override
+    public void push(int cell, int priority) {
+        if (size == cells.length) {
+            cells = Arrays.copyOf(cells, size * 2);
+            priorities = Arrays.copyOf(priorities, size * 2);
+        }
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (priorities[parent] <= priority) break;
+            cells[i] = cells[parent];
+            priorities[i] = priorities[parent];
+            i = parent;
+        }
+        cells[i] = cell;
+        priorities[i] = priority;
+    }
+
+    @Override
+    public int pop() {
+        int top = cells[0];
+        int cell = cells[--size];
+        int priority = priorities[size];
+        int i = 0;
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && priorities[child + 1] < priorities[child]) child++;
+            if (priority <= priorities[child]) break;
+            cells[i] = cells[child];
+            priorities[i] = priorities[child];
+            i = child;
+        }
+        cells[i] = cell;
+        priorities[i] = priority;
+        return top;
+    }
+
+    @Override
+    public int peekPriority() {
+        return priorities[0];
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+    }
+}
@@ -0,0 +1,73 @@
+package maze;
+
+import java.util.Arrays;
+
+// Dial's bucket queue untuk bobot integer kecil (bobot terrain 0..10).
+// Prioritas yang masih hidup selalu berada di [cursor, cursor + maxStep], jadi cukup
+// ring berisi maxStep + 1 bucket; push dan pop O(1) amortized. Bobot 0 (STONE) aman:
+// sel masuk ke bucket yang sedang diproses, persis seperti 0-1 BFS.
+public class BucketQueue implements IntPriorityQueue {
+    private final int mask;
+    private final int[][] buckets;
+    private final int[] counts;
+    private int size;
+    private int cursor;
+
+    public BucketQueue(int maxStep) {
+        int span = Integer.highestOneBit(Math.max(1, maxStep) * 2);
+        mask = span - 1;
+        buckets = new int[span][16];
+        counts = new int[span];
+    }
+
+    @Override
+    public void push(int cell, int priority) {
+        if (size == 0 && (priority < cursor || priority - cursor > mask)) {
+            // Antrian kosong: cursor hanya dipindah kalau perlu. Menaikkannya ke prioritas push pertama
+            // akan membuat push berikutnya yang lebih kecil (tetangga STONE, bobot 0) ikut dinaikkan.
+            cursor = priority;
+        } else if (priority < cursor) {
+            // Hanya terjadi kalau heuristic A* tidak konsisten; diproses sebagai prioritas saat ini
+            priority = cursor;
+        }
+        if (priority - cursor > mask) {
+            throw new IllegalArgumentException("Priority step " + (priority - cursor) + " exceeds bucket range " + mask);
+        }
+        int b = priority & mask;
+        if (counts[b] == buckets[b].length) {
+            buckets[b] = Arrays.copyOf(buckets[b], counts[b] * 2);
+        }
+        buckets[b][counts[b]++] = cell;
+        size++;
+    }
+
+    @Override
+    public int pop() {
+        int b = advance();
+        size--;
+        return buckets[b][--counts[b]];
+    }
+
+    @Override
+    public int peekPriority() {
+        advance();
+        return cursor;
+    }
+
+    private int advance() {
+        while (counts[cursor & mask] == 0) cursor++;
+        return cursor & mask;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(counts, 0);
+        size = 0;
+        cursor = 0;
+    }
+}
@@ -0,0 +1,309 @@
+package maze;
+
+import java.util.Arrays;
+
+// Graph terkontraksi: setiap rangkaian sel berderajat 2 (koridor, termasuk koridor menuju jalan buntu)
+// dipadatkan menjadi satu chain antara dua node. Node = sel dengan derajat 1 atau >= 3, ditambah satu sel
+// per siklus yang seluruhnya berderajat 2. Sel tanpa tetangga (misalnya sel yang dibuang
+// WeightedGraph.without) bukan node maupun chain. Sel-sel interior chain disimpan berurutan dari node a ke
+// node b bersama prefix cost-nya, sehingga cost dari/ke posisi mana pun di dalam chain O(1):
+//   a -> b = total + w(b), b -> a = total + w(a)   (cost edge = bobot sel yang dimasuki)
+// Dibangun sekali per WeightedGraph (lihat WeightedGraph.corridors()) dan read-only sesudahnya.
+public class CorridorGraph {
+    public final WeightedGraph graph;
+
+    private final int nodeCount;
+    private final int[] nodeCells;     // node -> sel
+    private final int[] nodeOf;        // sel -> node, atau -1 untuk sel interior / terisolasi
+    private final int[] chainOf;       // sel interior -> chain, atau -1
+    private final int[] indexOf;       // sel interior -> posisi global di chainCells
+
+    private final int chainCount;
+    private final int[] chainA, chainB;
+    private final int[] chainOffsets;  // interior chain k ada di chainCells[chainOffsets[k] .. chainOffsets[k+1])
+    private final int[] chainCells;
+    private final int[] prefix;        // prefix[g] = jumlah bobot interior dari awal chain sampai g
+
+    // Adjacency node dalam CSR; self-loop tidak dimasukkan karena tidak pernah memperpendek jalur
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] edgeChains;
+    private final int[] edgeCosts;
+    // Batas atas cost edge mana pun, juga cost dari sel interior ke node ujungnya (untuk BucketQueue)
+    private final int maxEdgeCost;
+
+    CorridorGraph(WeightedGraph graph) {
+        this.graph = graph;
+        int n = graph.size();
+        nodeOf = new int[n];
+        chainOf = new int[n];
+        indexOf = new int[n];
+        Arrays.fill(chainOf, -1);
+
+        IntList nodes = new IntList();
+        for (int cell = 0; cell < n; cell++) {
+            int degree = graph.degree(cell);
+            if (degree != 2 && degree != 0) {
+                nodeOf[cell] = nodes.size;
+                nodes.add(cell);
+            } else {
+                nodeOf[cell] = -1;
+            }
+        }
+
+        IntList a = new IntList(), b = new IntList(), chainStarts = new IntList(), cells = new IntList();
+        // Telusuri chain dari setiap node; chain yang sama ditemukan dari kedua ujungnya, jadi yang sudah
+        // tercatat (interior-nya sudah punya chain, atau tanpa interior dan a > b) dilewati
+        for (int node = 0; node < nodes.size; node++) {
+            int cell = nodes.data[node];
+            for (int e = graph.firstEdge(cell), last = graph.endEdge(cell); e < last; e++) {
+                int first = graph.target(e);
+                if (nodeOf[first] >= 0) {
+                    if (node < nodeOf[first]) addChain(a, b, chainStarts, cells, node, nodeOf[first]);
+                } else if (chainOf[first] < 0) {
+                    trace(cell, first, nodes, a, b, chainStarts, cells);
+                }
+            }
+        }
+        // Sisa sel berderajat 2 yang belum masuk chain ada di siklus tanpa persimpangan
+        for (int cell = 0; cell < n; cell++) {
+            if (graph.degree(cell) == 2 && nodeOf[cell] < 0 && chainOf[cell] < 0) {
+                nodeOf[cell] = nodes.size;
+                nodes.add(cell);
+                trace(cell, graph.target(graph.firstEdge(cell)), nodes, a, b, chainStarts, cells);
+            }
+        }
+
+        nodeCount = nodes.size;
+        nodeCells = nodes.toArray();
+        chainCount = a.size;
+        chainA = a.toArray();
+        chainB = b.toArray();
+        chainStarts.add(cells.size);
+        chainOffsets = chainStarts.toArray();
+        chainCells = cells.toArray();
+        prefix = new int[chainCells.length];
+        for (int k = 0; k < chainCount; k++) {
+            int sum = 0;
+            for (int g = chainOffsets[k]; g < chainOffsets[k + 1]; g++) {
+                sum += graph.weight(chainCells[g]);
+                prefix[g] = sum;
+            }
+        }
+
+        offsets = new int[nodeCount + 1];
+        for (int k = 0; k < chainCount; k++) {
+            if (chainA[k] == chainB[k]) continue;
+            offsets[chainA[k] + 1]++;
+            offsets[chainB[k] + 1]++;
+        }
+        for (int i = 0; i < nodeCount; i++) offsets[i + 1] += offsets[i];
+        targets = new int[offsets[nodeCount]];
+        edgeChains = new int[targets.length];
+        edgeCosts = new int[targets.length];
+        int[] fill = Arrays.copyOf(offsets, nodeCount);
+        for (int k = 0; k < chainCount; k++) {
+            int from = chainA[k], to = chainB[k];
+            if (from == to) continue;
+            int e = fill[from]++;
+            targets[e] = to;
+            edgeChains[e] = k;
+            edgeCosts[e] = total(k) + graph.weight(nodeCells[to]);
+            e = fill[to]++;
+            targets[e] = from;
+            edgeChains[e] = k;
+            edgeCosts[e] = total(k) + graph.weight(nodeCells[from]);
+        }
+        int maxTotal = 0;
+        for (int k = 0; k < chainCount; k++) maxTotal = Math.max(maxTotal, total(k));
+        maxEdgeCost = maxTotal + graph.maxWeight();
+    }
+
+    // Ikuti koridor dari node di sel from lewat sel first sampai bertemu node lagi
+    private void trace(int from, int first, IntList nodes, IntList a, IntList b, IntList chainStarts, IntList cells) {
+        int chain = a.size;
+        chainStarts.add(cells.size);
+        a.add(nodeOf[from]);
+        int prev = from, current = first;
+        while (nodeOf[current] < 0) {
+            chainOf[current] = chain;
+            indexOf[current] = cells.size;
+            cells.add(current);
+            int e = graph.firstEdge(current);
+            int next = graph.target(e) != prev ? graph.target(e) : graph.target(e + 1);
+            prev = current;
+            current = next;
+        }
+        b.add(nodeOf[current]);
+    }
+
+    private static void addChain(IntList a, IntList b, IntList chainStarts, IntList cells, int from, int to) {
+        chainStarts.add(cells.size);
+        a.add(from);
+        b.add(to);
+    }
+
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    public int chainCount() {
+        return chainCount;
+    }
+
+    // -1 kalau sel ada di dalam chain atau terisolasi
+    public int nodeOf(int cell) {
+        return nodeOf[cell];
+    }
+
+    public int nodeCell(int node) {
+        return nodeCells[node];
+    }
+
+    public int chainOf(int cell) {
+        return chainOf[cell];
+    }
+
+    // Sel tanpa tetangga sama sekali
+    public boolean isIsolated(int cell) {
+        return nodeOf[cell] < 0 && chainOf[cell] < 0;
+    }
+
+    public int chainA(int chain) {
+        return chainA[chain];
+    }
+
+    public int chainB(int chain) {
+        return chainB[chain];
+    }
+
+    public int firstEdge(int node) {
+        return offsets[node];
+    }
+
+    public int endEdge(int node) {
+        return offsets[node + 1];
+    }
+
+    public int target(int edge) {
+        return targets[edge];
+    }
+
+    public int edgeChain(int edge) {
+        return edgeChains[edge];
+    }
+
+    public int edgeCost(int edge) {
+        return edgeCosts[edge];
+    }
+
+    public int maxEdgeCost() {
+        return maxEdgeCost;
+    }
+
+    // Jumlah sel interior chain
+    public int length(int chain) {
+        return chainOffsets[chain + 1] - chainOffsets[chain];
+    }
+
+    // Jumlah bobot sel interior chain
+    public int total(int chain) {
+        int end = chainOffsets[chain + 1];
+        return end == chainOffsets[chain] ? 0 : prefix[end - 1];
+    }
+
+    // Cost dari sel interior ke node a / b chain-nya
+    public int costToA(int cell) {
+        int g = indexOf[cell];
+        return prefix[g] - graph.weight(cell) + graph.weight(nodeCells[chainA[chainOf[cell]]]);
+    }
+
+    public int costToB(int cell) {
+        int chain = chainOf[cell];
+        return total(chain) - prefix[indexOf[cell]] + graph.weight(nodeCells[chainB[chain]]);
+    }
+
+    // Cost dari node a / b ke sel interior
+    public int costFromA(int cell) {
+        return prefix[indexOf[cell]];
+    }
+
+    public int costFromB(int cell) {
+        return total(chainOf[cell]) - prefix[indexOf[cell]] + graph.weight(cell);
+    }
+
+    // Cost antara dua sel interior chain yang sama tanpa keluar dari chain
+    public int costWithin(int from, int to) {
+        int gFrom = indexOf[from], gTo = indexOf[to];
+        if (gFrom <= gTo) return prefix[gTo] - prefix[gFrom];
+        return (prefix[gFrom] - graph.weight(from)) - (prefix[gTo] - graph.weight(to));
+    }
+
+    // Posisi sel interior di chain-nya, 0 = paling dekat ke node a
+    public int position(int cell) {
+        return indexOf[cell] - chainOffsets[chainOf[cell]];
+    }
+
+    // Tulis sel interior chain mulai dari sisi node fromNode, lalu sel node di ujung satunya
+    public int appendChain(int[] path, int length, int chain, int fromNode) {
+        int begin = chainOffsets[chain], end = chainOffsets[chain + 1];
+        if (fromNode == chainA[chain]) {
+            for (int g = begin; g < end; g++) path[length++] = chainCells[g];
+            path[length++] = nodeCells[chainB[chain]];
+        } else {
+            for (int g = end - 1; g >= begin; g--) path[length++] = chainCells[g];
+            path[length++] = nodeCells[chainA[chain]];
+        }
+        return length;
+    }
+
+    // Sel-sel di antara dua sel interior chain yang sama, from dan to ikut ditulis
+    public int appendWithin(int[] path, int length, int from, int to) {
+        int step = indexOf[from] <= indexOf[to] ? 1 : -1;
+        for (int g = indexOf[from]; ; g += step) {
+            path[length++] = chainCells[g];
+            if (g == indexOf[to]) return length;
+        }
+    }
+
+    // Dari sel interior cell menuju node a (toA) atau b, tanpa cell sendiri, node ujung ikut ditulis
+    public int appendToNode(int[] path, int length, int cell, boolean toA) {
+        int chain = chainOf[cell];
+        int g = indexOf[cell];
+        if (toA) {
+            for (int i = g - 1; i >= chainOffsets[chain]; i--) path[length++] = chainCells[i];
+            path[length++] = nodeCells[chainA[chain]];
+        } else {
+            for (int i = g + 1; i < chainOffsets[chain + 1]; i++) path[length++] = chainCells[i];
+            path[length++] = nodeCells[chainB[chain]];
+        }
+        return length;
+    }
+
+    // Dari node a (fromA) atau b ke sel interior cell, tanpa node awal, cell ikut ditulis
+    public int appendFromNode(int[] path, int length, int cell, boolean fromA) {
+        int chain = chainOf[cell];
+        int g = indexOf[cell];
+        if (fromA) {
+            for (int i = chainOffsets[chain]; i <= g; i++) path[length++] = chainCells[i];
+        } else {
+            for (int i = chainOffsets[chain + 1] - 1; i >= g; i--) path[length++] = chainCells[i];
+        }
+        return length;
+    }
+
+    // Array int yang bisa tumbuh, hanya untuk membangun graph
+    private static final class IntList {
+        int[] data = new int[64];
+        int size;
+
+        void add(int value) {
+            if (size == data.length) data = Arrays.copyOf(data, size * 2);
+            data[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(data, size);
+        }
+    }
+}
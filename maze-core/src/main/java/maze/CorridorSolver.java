@@ -0,0 +1,154 @@
+package maze;
+
+// Dijkstra di atas CorridorGraph: yang di-expand hanya persimpangan dan jalan buntu, koridor dilompati
+// sebagai satu edge. Start/end di tengah koridor menjadi sumber/target virtual di kedua node ujungnya
+// (cost-nya dari prefix chain), dan kalau keduanya di koridor yang sama jalur langsung di dalam koridor
+// ikut dibandingkan. Jalur node diekspansi kembali menjadi urutan sel di akhir.
+public class CorridorSolver implements MazeSolver {
+    // Cost edge bisa sepanjang koridor terpanjang (satu chain untuk seluruh jalur pada graph hasil
+    // WeightedGraph.without); di atas ini ring BucketQueue terlalu besar dan heap lebih murah
+    private static final int MAX_BUCKET_SPAN = 1 << 10;
+
+    // Parent khusus untuk node sumber; parent lain adalah id chain yang dilewati
+    private static final int FROM_START = -1;
+    private static final int FROM_START_VIA_A = -2;
+    private static final int FROM_START_VIA_B = -3;
+
+    // Cara jalur terbaik mencapai end
+    private static final int END_AT_NODE = 0;
+    private static final int END_FROM_A = 1;
+    private static final int END_FROM_B = 2;
+    private static final int END_WITHIN = 3;
+
+    @Override
+    public SolveResult solve(WeightedGraph graph, int start, int end, SolveListener listener) {
+        long startNanos = System.nanoTime();
+        if (start == end) {
+            listener.onVisit(start);
+            return new SolveResult(new int[]{start}, 0, 1, System.nanoTime() - startNanos);
+        }
+        CorridorGraph corridors = graph.corridors();
+        if (corridors.isIsolated(start) || corridors.isIsolated(end)) return SolveResult.notFound(0, startNanos);
+
+        SolverWorkspace ws = SolverWorkspace.forThread(corridors.nodeCount());
+        int maxStep = corridors.maxEdgeCost();
+        IntPriorityQueue pq = maxStep <= MAX_BUCKET_SPAN
+                ? ws.queue(QueueType.BUCKET, maxStep)
+                : ws.queue(QueueType.BINARY_HEAP, 0);
+        int expanded = 0;
+
+        int best = SolverWorkspace.INF;
+        int bestNode = -1;
+        int bestWay = END_WITHIN;
+        if (corridors.nodeOf(start) < 0 && corridors.chainOf(start) == corridors.chainOf(end)) {
+            best = corridors.costWithin(start, end);
+        }
+
+        // Sumber: start sendiri kalau node, atau kedua ujung koridornya
+        int startNode = corridors.nodeOf(start);
+        if (startNode >= 0) {
+            offer(ws, pq, startNode, 0, FROM_START);
+        } else {
+            int chain = corridors.chainOf(start);
+            offer(ws, pq, corridors.chainA(chain), corridors.costToA(start), FROM_START_VIA_A);
+            offer(ws, pq, corridors.chainB(chain), corridors.costToB(start), FROM_START_VIA_B);
+        }
+
+        int endNode = corridors.nodeOf(end);
+        int endChain = corridors.chainOf(end);
+        int endA = endNode >= 0 ? -1 : corridors.chainA(endChain);
+        int endB = endNode >= 0 ? -1 : corridors.chainB(endChain);
+
+        while (!pq.isEmpty() && !listener.isCancelled()) {
+            int dist = pq.peekPriority();
+            int current = pq.pop();
+            if (ws.isClosed(current)) continue;
+            // Semua sisa antrian paling tidak secepat dist, jadi jalur terbaik sudah pasti
+            if (dist >= best) break;
+            ws.close(current);
+            expanded++;
+            listener.onVisit(corridors.nodeCell(current));
+
+            if (current == endNode) {
+                best = dist;
+                bestNode = current;
+                bestWay = END_AT_NODE;
+            }
+            if (current == endA && dist + corridors.costFromA(end) < best) {
+                best = dist + corridors.costFromA(end);
+                bestNode = current;
+                bestWay = END_FROM_A;
+            }
+            if (current == endB && dist + corridors.costFromB(end) < best) {
+                best = dist + corridors.costFromB(end);
+                bestNode = current;
+                bestWay = END_FROM_B;
+            }
+
+            for (int e = corridors.firstEdge(current), last = corridors.endEdge(current); e < last; e++) {
+                int neighbor = corridors.target(e);
+                if (!ws.isClosed(neighbor)) {
+                    int next = dist + corridors.edgeCost(e);
+                    if (next < ws.dist(neighbor)) {
+                        ws.reach(neighbor, next, corridors.edgeChain(e));
+                        pq.push(neighbor, next);
+                    }
+                }
+            }
+        }
+
+        if (listener.isCancelled() || best == SolverWorkspace.INF) return SolveResult.notFound(expanded, startNanos);
+        int[] path = expand(corridors, ws, start, end, bestNode, bestWay);
+        return new SolveResult(path, best, expanded, System.nanoTime() - startNanos);
+    }
+
+    private static void offer(SolverWorkspace ws, IntPriorityQueue pq, int node, int cost, int parent) {
+        if (cost < ws.dist(node)) {
+            ws.reach(node, cost, parent);
+            pq.push(node, cost);
+        }
+    }
+
+    private static int[] expand(CorridorGraph corridors, SolverWorkspace ws, int start, int end, int bestNode, int bestWay) {
+        if (bestNode < 0) {
+            // Jalur langsung di dalam satu koridor
+            int[] path = new int[Math.abs(corridors.position(end) - corridors.position(start)) + 1];
+            corridors.appendWithin(path, 0, start, end);
+            return path;
+        }
+
+        // Chain dari bestNode mundur ke node sumber; panjang jalur dihitung dulu supaya array pas
+        int hops = 0;
+        int[] chains = ws.buffer();
+        int node = bestNode;
+        int length = 1;
+        while (ws.parent(node) >= 0) {
+            int chain = ws.parent(node);
+            chains[hops++] = chain;
+            length += corridors.length(chain) + 1;
+            node = corridors.chainA(chain) == node ? corridors.chainB(chain) : corridors.chainA(chain);
+        }
+        int origin = ws.parent(node);
+        boolean startToA = origin == FROM_START_VIA_A;
+        if (origin != FROM_START) {
+            int chain = corridors.chainOf(start);
+            length += startToA ? corridors.position(start) + 1 : corridors.length(chain) - corridors.position(start);
+        }
+        boolean endFromA = bestWay == END_FROM_A;
+        if (bestWay != END_AT_NODE) {
+            int chain = corridors.chainOf(end);
+            length += endFromA ? corridors.position(end) + 1 : corridors.length(chain) - corridors.position(end);
+        }
+
+        int[] path = new int[length];
+        path[0] = start;
+        int at = origin == FROM_START ? 1 : corridors.appendToNode(path, 1, start, startToA);
+        for (int i = hops - 1; i >= 0; i--) {
+            int chain = chains[i];
+            at = corridors.appendChain(path, at, chain, node);
+            node = corridors.chainA(chain) == node ? corridors.chainB(chain) : corridors.chainA(chain);
+        }
+        if (bestWay != END_AT_NODE) corridors.appendFromNode(path, at, end, endFromA);
+        return path;
+    }
+}
@@ -0,0 +1,33 @@
+package maze;
+
+public class DFSSolver implements MazeSolver {
+    @Override
+    public SolveResult solve(WeightedGraph graph, int start, int end, SolveListener listener) {
+        long startNanos = System.nanoTime();
+        SolverWorkspace ws = SolverWorkspace.forThread(graph.size());
+        int[] stack = ws.buffer();
+        int top = 0;
+        int expanded = 0;
+        stack[top++] = start;
+        ws.reach(start, 0, start);
+
+        while (top > 0 && !listener.isCancelled()) {
+            int current = stack[--top];
+            expanded++;
+            listener.onVisit(current);
+
+            if (current == end) {
+                return SolveResult.fromParents(graph, ws, start, end, expanded, startNanos);
+            }
+
+            for (int e = graph.firstEdge(current), last = graph.endEdge(current); e < last; e++) {
+                int neighbor = graph.target(e);
+                if (!ws.isSeen(neighbor)) {
+                    ws.reach(neighbor, 0, current);
+                    stack[top++] = neighbor;
+                }
+            }
+        }
+        return SolveResult.notFound(expanded, startNanos);
+    }
+}
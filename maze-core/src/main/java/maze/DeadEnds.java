@@ -0,0 +1,192 @@
+package maze;
+
+import java.util.Arrays;
+
+// Dead-end filling: sel selain start/end yang hanya punya satu jalan keluar dihapus berulang-ulang
+// sampai tidak ada lagi, langsung dari bit dinding, O(jumlah sel). Sel yang terhapus tidak mungkin
+// dilewati jalur sederhana start -> end, jadi solver boleh melewatinya (lihat WeightedGraph.without).
+// Setiap sel terhapus menyimpan arah ke satu-satunya tetangga yang masih hidup saat dihapus, sehingga
+// cabang buntu membentuk pohon yang menggantung di sel hidup.
+// Disimpan per maze oleh MazeGrid.deadEnds() dan diperbarui setiap removeWall: membuka dinding hanya
+// bisa menghidupkan kembali sel, yaitu rantai parent dari kedua sisi dinding sampai ke sel hidup.
+public class DeadEnds {
+    private static final byte LIVE = -1;
+    // Arah 0..3 (atas, kanan, bawah, kiri) = parent; NO_PARENT untuk sel terhapus tanpa tetangga hidup
+    private static final byte NO_PARENT = 4;
+    // Sementara, selama removeWall menghidupkan kembali sel
+    private static final byte REVIVING = 5;
+    private static final int[] WALLS = {MazeGrid.TOP, MazeGrid.RIGHT, MazeGrid.BOTTOM, MazeGrid.LEFT};
+
+    public final MazeGrid maze;
+    public final int start, end;
+
+    private final byte[] state;
+    // Jumlah tetangga hidup, hanya bermakna untuk sel hidup
+    private final byte[] degree;
+    private int filled;
+    private int[] scratch = new int[16];
+
+    DeadEnds(MazeGrid maze, int start, int end) {
+        this.maze = maze;
+        this.start = start;
+        this.end = end;
+        int n = maze.size();
+        state = new byte[n];
+        degree = new byte[n];
+        Arrays.fill(state, LIVE);
+
+        int[] queue = new int[n];
+        int tail = 0;
+        for (int cell = 0; cell < n; cell++) {
+            int d = 0;
+            for (int dir = 0; dir < 4; dir++) {
+                if (neighbor(cell, dir) >= 0) d++;
+            }
+            degree[cell] = (byte) d;
+            if (d <= 1 && !isTerminal(cell)) queue[tail++] = cell;
+        }
+        peel(queue, tail);
+    }
+
+    public boolean isFilled(int cell) {
+        return state[cell] != LIVE;
+    }
+
+    public int filledCount() {
+        return filled;
+    }
+
+    // Tetangga ke arah dir kalau dindingnya terbuka, -1 kalau tidak
+    private int neighbor(int cell, int dir) {
+        if (maze.hasWall(cell, WALLS[dir])) return -1;
+        int row = maze.row(cell), col = maze.col(cell);
+        return switch (dir) {
+            case 0 -> row > 0 ? cell - maze.cols : -1;
+            case 1 -> col < maze.cols - 1 ? cell + 1 : -1;
+            case 2 -> row < maze.rows - 1 ? cell + maze.cols : -1;
+            default -> col > 0 ? cell - 1 : -1;
+        };
+    }
+
+    private boolean isTerminal(int cell) {
+        return cell == start || cell == end;
+    }
+
+    // queue[0 .. tail) berisi sel hidup berderajat <= 1; setiap sel masuk antrian paling banyak sekali
+    // karena derajatnya hanya turun dan yang didorong hanya yang baru turun dari 2 ke 1
+    private void peel(int[] queue, int tail) {
+        for (int head = 0; head < tail; head++) {
+            int cell = queue[head];
+            byte parent = NO_PARENT;
+            for (int dir = 0; dir < 4; dir++) {
+                int next = neighbor(cell, dir);
+                if (next >= 0 && state[next] == LIVE) {
+                    parent = (byte) dir;
+                    if (--degree[next] == 1 && !isTerminal(next)) {
+                        if (tail == queue.length) queue = Arrays.copyOf(queue, tail * 2);
+                        queue[tail++] = next;
+                    }
+                }
+            }
+            state[cell] = parent;
+            filled++;
+        }
+    }
+
+    // Dipanggil MazeGrid setelah dinding a-b yang tadinya tertutup dibuka
+    void wallRemoved(int a, int b) {
+        if (state[a] == LIVE && state[b] == LIVE) {
+            degree[a]++;
+            degree[b]++;
+            return;
+        }
+        int count;
+        if (reachesLive(a) && reachesLive(b)) {
+            // Kasus umum: rantai parent kedua sisi plus dinding baru membentuk jalur antar sel hidup,
+            // jadi seluruh rantainya hidup lagi dan cabang lain tetap menggantung seperti sebelumnya
+            count = collectChain(a, 0);
+            count = collectChain(b, count);
+        } else {
+            // Komponen yang tidak tersambung ke sel hidup (maze tidak terhubung): hidupkan seluruh
+            // komponen terhapus di kedua sisi lalu kupas ulang hanya bagian itu
+            count = collectComponent(a, 0);
+            count = collectComponent(b, count);
+        }
+        revive(count);
+        int[] queue = new int[count];
+        int tail = 0;
+        for (int i = 0; i < count; i++) {
+            int cell = scratch[i];
+            if (degree[cell] <= 1 && !isTerminal(cell)) queue[tail++] = cell;
+        }
+        peel(queue, tail);
+    }
+
+    private boolean reachesLive(int cell) {
+        while (state[cell] != LIVE) {
+            if (state[cell] == NO_PARENT) return false;
+            cell = cell + step(state[cell]);
+        }
+        return true;
+    }
+
+    private int step(int dir) {
+        return switch (dir) {
+            case 0 -> -maze.cols;
+            case 1 -> 1;
+            case 2 -> maze.cols;
+            default -> -1;
+        };
+    }
+
+    private int collectChain(int cell, int count) {
+        while (state[cell] != LIVE && state[cell] != REVIVING) {
+            int parent = state[cell];
+            count = add(cell, count);
+            cell = cell + step(parent);
+        }
+        return count;
+    }
+
+    private int collectComponent(int from, int count) {
+        if (state[from] == LIVE || state[from] == REVIVING) return count;
+        int head = count;
+        count = add(from, count);
+        while (head < count) {
+            int cell = scratch[head++];
+            for (int dir = 0; dir < 4; dir++) {
+                int next = neighbor(cell, dir);
+                if (next >= 0 && state[next] != LIVE && state[next] != REVIVING) count = add(next, count);
+            }
+        }
+        return count;
+    }
+
+    private int add(int cell, int count) {
+        if (count == scratch.length) scratch = Arrays.copyOf(scratch, count * 2);
+        scratch[count] = cell;
+        state[cell] = REVIVING;
+        return count + 1;
+    }
+
+    // Hidupkan scratch[0 .. count) dan hitung ulang derajatnya beserta tetangga hidupnya
+    private void revive(int count) {
+        for (int i = 0; i < count; i++) {
+            int cell = scratch[i];
+            int d = 0;
+            for (int dir = 0; dir < 4; dir++) {
+                int next = neighbor(cell, dir);
+                if (next < 0) continue;
+                if (state[next] == LIVE) {
+                    degree[next]++;
+                    d++;
+                } else if (state[next] == REVIVING) {
+                    d++;
+                }
+            }
+            degree[cell] = (byte) d;
+        }
+        for (int i = 0; i < count; i++) state[scratch[i]] = LIVE;
+        filled -= count;
+    }
+}
@@ -0,0 +1,50 @@
+package maze;
+
+public class DijkstraSolver implements MazeSolver {
+    private final QueueType queueType;
+
+    public DijkstraSolver() {
+        this(QueueType.BUCKET);
+    }
+
+    public DijkstraSolver(QueueType queueType) {
+        this.queueType = queueType;
+    }
+
+    @Override
+    public SolveResult solve(WeightedGraph graph, int start, int end, SolveListener listener) {
+        long startNanos = System.nanoTime();
+        SolverWorkspace ws = SolverWorkspace.forThread(graph.size());
+        IntPriorityQueue pq = ws.queue(queueType, graph.maxWeight());
+        int expanded = 0;
+
+        ws.reach(start, 0, start);
+        pq.push(start, 0);
+
+        while (!pq.isEmpty() && !listener.isCancelled()) {
+            int current = pq.pop();
+
+            if (ws.isClosed(current)) continue;
+            ws.close(current);
+            expanded++;
+            listener.onVisit(current);
+
+            if (current == end) {
+                return SolveResult.fromParents(graph, ws, start, end, expanded, startNanos);
+            }
+
+            int currentDist = ws.dist(current);
+            for (int e = graph.firstEdge(current), last = graph.endEdge(current); e < last; e++) {
+                int neighbor = graph.target(e);
+                if (!ws.isClosed(neighbor)) {
+                    int newDist = currentDist + graph.edgeWeight(e);
+                    if (newDist < ws.dist(neighbor)) {
+                        ws.reach(neighbor, newDist, current);
+                        pq.push(neighbor, newDist);
+                    }
+                }
+            }
+        }
+        return SolveResult.notFound(expanded, startNanos);
+    }
+}
@@ -0,0 +1,103 @@
+package maze;
+
+import java.util.Arrays;
+
+// Jarak terpendek dari setiap sel ke satu target (trofi), hasil satu Dijkstra terbalik dari target.
+// Cost edge u -> v adalah bobot v, jadi saat v diambil dari antrian tetangga u direlaksasi dengan
+// dist[v] + w(v). Setelah itu jalur optimal dari sel mana pun cukup turun serakah, O(panjang jalur)
+// tanpa search ulang. Arah turun disimpan 1 byte per sel saat relaksasi: dengan STONE berbobot 0
+// dua tetangga bisa punya dist sama, dan memilih dari dist saja bisa bolak-balik di antara keduanya.
+public class DistanceField {
+    public static final int UNREACHABLE = SolverWorkspace.INF;
+    private static final byte NONE = -1;
+
+    public final WeightedGraph graph;
+    public final int target;
+
+    private final int[] dist;
+    // Indeks ke STEPS: tetangga berikutnya menuju target
+    private final byte[] next;
+    private final int[] steps;
+
+    private DistanceField(WeightedGraph graph, int target, int[] dist, byte[] next) {
+        this.graph = graph;
+        this.target = target;
+        this.dist = dist;
+        this.next = next;
+        this.steps = steps(graph.cols);
+    }
+
+    // Atas, kanan, bawah, kiri
+    private static int[] steps(int cols) {
+        return new int[]{-cols, 1, cols, -1};
+    }
+
+    public static DistanceField compute(WeightedGraph graph, int target) {
+        byte[] next = new byte[graph.size()];
+        Arrays.fill(next, NONE);
+        return new DistanceField(graph, target, distancesTo(graph, target, next), next);
+    }
+
+    // Hanya jaraknya (next boleh null), dipakai juga oleh Landmarks
+    static int[] distancesTo(WeightedGraph graph, int target, byte[] next) {
+        int[] dist = new int[graph.size()];
+        Arrays.fill(dist, UNREACHABLE);
+        int[] steps = steps(graph.cols);
+        // Antrian sendiri, bukan SolverWorkspace: dist harus bertahan, dan Landmarks memanggil ini dari
+        // thread ForkJoinPool yang tidak perlu menyimpan workspace seukuran maze
+        IntPriorityQueue pq = new BucketQueue(graph.maxWeight());
+
+        dist[target] = 0;
+        pq.push(target, 0);
+        while (!pq.isEmpty()) {
+            int priority = pq.peekPriority();
+            int current = pq.pop();
+            if (priority > dist[current]) continue;  // Entri basi
+
+            int reached = priority + graph.weight(current);
+            for (int e = graph.firstEdge(current), last = graph.endEdge(current); e < last; e++) {
+                int neighbor = graph.target(e);
+                if (reached < dist[neighbor]) {
+                    dist[neighbor] = reached;
+                    if (next != null) next[neighbor] = direction(steps, current - neighbor);
+                    pq.push(neighbor, reached);
+                }
+            }
+        }
+        return dist;
+    }
+
+    private static byte direction(int[] steps, int delta) {
+        for (byte d = 0; d < steps.length; d++) {
+            if (steps[d] == delta) return d;
+        }
+        throw new IllegalArgumentException("Not a neighbor step: " + delta);
+    }
+
+    public boolean isReachable(int cell) {
+        return dist[cell] != UNREACHABLE;
+    }
+
+    // Cost jalur terpendek cell -> target, atau UNREACHABLE
+    public int distance(int cell) {
+        return dist[cell];
+    }
+
+    // Langkah pertama jalur optimal dari cell, -1 kalau cell adalah target atau tidak terjangkau
+    public int nextStep(int cell) {
+        byte d = next[cell];
+        return d == NONE ? -1 : cell + steps[d];
+    }
+
+    // Jalur start -> target dengan format sama seperti solver; expanded = jumlah sel yang dilewati
+    public SolveResult path(int start) {
+        long startNanos = System.nanoTime();
+        if (dist[start] == UNREACHABLE) return SolveResult.notFound(0, startNanos);
+
+        int length = 0;
+        for (int cell = start; cell != -1; cell = nextStep(cell)) length++;
+        int[] path = new int[length];
+        for (int i = 0, cell = start; i < length; i++, cell = nextStep(cell)) path[i] = cell;
+        return new SolveResult(path, dist[start], length, System.nanoTime() - startNanos);
+    }
+}
@@ -0,0 +1,20 @@
+package maze;
+
+// Menyimpan DistanceField terakhir untuk satu maze yang bisa berubah (UI). Field dibangun ulang
+// otomatis kalau dinding/terrain berubah (MazeGrid.version()) atau targetnya lain; selama maze
+// tetap, setiap query hanya biaya greedy descent.
+public class DistanceFieldCache {
+    private DistanceField field;
+
+    // graph boleh null atau basi; kalau tidak cocok dengan maze akan dibangun dari maze
+    public synchronized DistanceField get(MazeGrid maze, WeightedGraph graph, int target) {
+        if (field != null && field.target == target && field.graph.isCurrent(maze)) return field;
+        if (graph == null || !graph.isCurrent(maze)) graph = new WeightedGraph(maze);
+        field = DistanceField.compute(graph, target);
+        return field;
+    }
+
+    public synchronized void clear() {
+        field = null;
+    }
+}
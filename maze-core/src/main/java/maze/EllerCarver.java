@@ -0,0 +1,13 @@
+package maze;
+
+import java.util.SplittableRandom;
+
+// Eller sebagai MazeCarver biasa: baris langsung ditulis ke grid tanpa terrain; loop dan terrain
+// ditambah belakangan oleh Mazes / TiledGenerator
+public class EllerCarver implements MazeCarver {
+    @Override
+    public void carve(GridRegion region, SplittableRandom rand) {
+        new EllerGenerator(region.rows, region.cols, 0, null).generate(rand,
+                (row, cells) -> region.maze.setRow(region.top + row, region.left, cells));
+    }
+}
@@ -0,0 +1,123 @@
+package maze;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// Eller's algorithm: maze dibuat satu baris sekaligus, memori hanya O(cols) sehingga
+// tinggi maze tidak dibatasi RAM. Setiap baris dikirim ke MazeRowSink begitu selesai.
+//
+// Label himpunan tiap baris dipadatkan ke [0, cols); sel baru (tidak tersambung ke atas)
+// mendapat label cols + kolom, jadi union-find cukup berukuran 2 * cols.
+public class EllerGenerator {
+    private final int rows, cols;
+    private final double loopRatio;
+    private final TerrainMix terrain;
+
+    // terrain null: hanya dinding, semua sel STONE (EllerCarver; terrain diisi pemanggilnya)
+    public EllerGenerator(int rows, int cols, double loopRatio, TerrainMix terrain) {
+        this.rows = rows;
+        this.cols = cols;
+        this.loopRatio = loopRatio;
+        this.terrain = terrain;
+    }
+
+    public void generate(SplittableRandom rand, MazeRowSink sink) {
+        byte[] current = new byte[cols];
+        byte[] next = new byte[cols];
+        int[] sets = new int[cols];
+        int[] parent = new int[2 * cols];
+        int[] members = new int[2 * cols];
+        int[] downs = new int[2 * cols];
+        int[] remap = new int[2 * cols];
+
+        Arrays.fill(current, (byte) MazeGrid.ALL_WALLS);
+        Arrays.fill(sets, -1);
+
+        for (int row = 0; row < rows; row++) {
+            boolean lastRow = row == rows - 1;
+            for (int k = 0; k < parent.length; k++) parent[k] = k;
+            for (int j = 0; j < cols; j++) {
+                if (sets[j] < 0) sets[j] = cols + j;
+            }
+
+            // Gabungkan sel bertetangga secara horizontal; a selalu root himpunan sel j
+            int a = find(parent, sets[0]);
+            for (int j = 0; j < cols - 1; j++) {
+                int b = find(parent, sets[j + 1]);
+                boolean open;
+                if (a != b && (lastRow || rand.nextBoolean())) {
+                    parent[b] = a;
+                    open = true;
+                } else {
+                    a = b;
+                    // Dinding ini tidak akan pernah dibuka lagi oleh Eller; buka sebagai loop
+                    // tanpa union, sama seperti 30% dinding sisa yang dibuka Mazes.addLoops
+                    open = rand.nextDouble() < loopRatio;
+                }
+                if (open) {
+                    current[j] &= (byte) ~MazeGrid.RIGHT;
+                    current[j + 1] &= (byte) ~MazeGrid.LEFT;
+                }
+            }
+
+            Arrays.fill(next, (byte) MazeGrid.ALL_WALLS);
+            if (!lastRow) {
+                carveDown(rand, current, next, sets, parent, members, downs, remap);
+            }
+
+            if (terrain != null) {
+                for (int j = 0; j < cols; j++) {
+                    Terrain t = terrain.pick(rand);
+                    if ((row == 0 && j == 0) || (lastRow && j == cols - 1)) t = Terrain.STONE;
+                    current[j] = MazeGrid.pack(current[j], t);
+                }
+            }
+            sink.acceptRow(row, current);
+
+            byte[] t = current;
+            current = next;
+            next = t;
+        }
+    }
+
+    // Tiap sel turun dengan peluang 1/2; sel terakhir sebuah himpunan dipaksa turun kalau
+    // himpunan itu belum punya jalan ke bawah.
+    // Dinding bawah yang tetap tertutup dibuka dengan peluang loopRatio, sel di bawahnya
+    // diberi himpunan baru sehingga penggabungan berikutnya membentuk loop.
+    private void carveDown(SplittableRandom rand, byte[] current, byte[] next, int[] sets,
+                           int[] parent, int[] members, int[] downs, int[] remap) {
+        Arrays.fill(members, 0);
+        Arrays.fill(downs, 0);
+        Arrays.fill(remap, -1);
+        for (int j = 0; j < cols; j++) {
+            sets[j] = find(parent, sets[j]);
+            members[sets[j]]++;
+        }
+
+        int labels = 0;
+        for (int j = 0; j < cols; j++) {
+            int root = sets[j];
+            boolean last = --members[root] == 0;
+            boolean down = rand.nextBoolean() || (last && downs[root] == 0);
+
+            if (down) {
+                downs[root]++;
+                if (remap[root] < 0) remap[root] = labels++;
+                sets[j] = remap[root];
+            } else {
+                sets[j] = -1;
+                if (rand.nextDouble() >= loopRatio) continue;
+            }
+            current[j] &= (byte) ~MazeGrid.BOTTOM;
+            next[j] &= (byte) ~MazeGrid.TOP;
+        }
+    }
+
+    private static int find(int[] parent, int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+}
@@ -0,0 +1,23 @@
+package maze;
+
+public enum GeneratorType {
+    PRIM("PRIM"),
+    KRUSKAL("KRUSKAL"),
+    WILSON("WILSON"),
+    ELLER("ELLER");
+
+    public final String label;
+
+    GeneratorType(String label) {
+        this.label = label;
+    }
+
+    public MazeCarver create() {
+        switch (this) {
+            case KRUSKAL: return new KruskalCarver();
+            case WILSON: return new WilsonCarver();
+            case ELLER: return new EllerCarver();
+            default: return new PrimCarver();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package maze;
+
+// Persegi panjang di dalam MazeGrid dengan index lokal sendiri (row * cols + col relatif
+// terhadap pojok kiri atas). Carver bekerja di index lokal, sehingga tile pada generator
+// paralel bisa dikerjakan dengan kode yang sama seperti satu maze utuh.
+// Dinding dalam dinyatakan sebagai edge id lokal: cell * 2 (kanan) atau cell * 2 + 1 (bawah).
+public class GridRegion {
+    public final MazeGrid maze;
+    public final int top, left, rows, cols;
+
+    public GridRegion(MazeGrid maze) {
+        this(maze, 0, 0, maze.rows, maze.cols);
+    }
+
+    public GridRegion(MazeGrid maze, int top, int left, int rows, int cols) {
+        this.maze = maze;
+        this.top = top;
+        this.left = left;
+        this.rows = rows;
+        this.cols = cols;
+    }
+
+    public int size() {
+        return rows * cols;
+    }
+
+    public int row(int cell) {
+        return cell / cols;
+    }
+
+    public int col(int cell) {
+        return cell % cols;
+    }
+
+    public int global(int cell) {
+        return (top + cell / cols) * maze.cols + left + cell % cols;
+    }
+
+    public boolean hasWall(int cell, int wall) {
+        return maze.hasWall(global(cell), wall);
+    }
+
+    public void removeWall(int a, int b) {
+        maze.removeWall(global(a), global(b));
+    }
+
+    public void setTerrain(int cell, Terrain terrain) {
+        maze.setTerrain(global(cell), terrain);
+    }
+
+    public int edgeCell(int edge) {
+        return edge >>> 1;
+    }
+
+    public int edgeOther(int edge) {
+        int cell = edge >>> 1;
+        return (edge & 1) == 0 ? cell + 1 : cell + cols;
+    }
+
+    public void openEdge(int edge) {
+        removeWall(edgeCell(edge), edgeOther(edge));
+    }
+}
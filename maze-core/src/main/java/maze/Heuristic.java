@@ -0,0 +1,13 @@
+package maze;
+
+// Batas bawah cost berjalan dari sel from ke sel to: bobot from tidak dihitung, bobot to dihitung
+// (sama seperti cost jalur solver). Harus admissible dan konsisten supaya A* dua arah tetap optimal.
+public interface Heuristic {
+    Heuristic ZERO = (graph, from, to) -> 0;
+
+    // Setiap langkah minimal seberat terrain teringan; 0 kalau maze punya STONE
+    Heuristic MANHATTAN = (graph, from, to) -> graph.minWeight()
+            * (Math.abs(graph.row(from) - graph.row(to)) + Math.abs(graph.col(from) - graph.col(to)));
+
+    int estimate(WeightedGraph graph, int from, int to);
+}
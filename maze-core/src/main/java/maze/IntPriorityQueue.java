@@ -0,0 +1,15 @@
+package maze;
+
+// Antrian prioritas untuk index sel (int), tanpa objek Node per push
+public interface IntPriorityQueue {
+    void push(int cell, int priority);
+
+    // Ambil sel dengan prioritas terkecil
+    int pop();
+
+    int peekPriority();
+
+    boolean isEmpty();
+
+    void clear();
+}
@@ -0,0 +1,32 @@
+package maze;
+
+import java.util.SplittableRandom;
+
+// Randomized Kruskal: acak semua dinding dalam, buka dinding yang menghubungkan dua himpunan berbeda
+public class KruskalCarver implements MazeCarver {
+    @Override
+    public void carve(GridRegion region, SplittableRandom rand) {
+        int n = region.size();
+        int[] walls = new int[2 * n];
+        int count = 0;
+        for (int cell = 0; cell < n; cell++) {
+            if (region.col(cell) < region.cols - 1) walls[count++] = cell * 2;
+            if (cell + region.cols < n) walls[count++] = cell * 2 + 1;
+        }
+
+        DisjointSet sets = new DisjointSet(n);
+        int remaining = n - 1;
+        for (int i = 0; i < count && remaining > 0; i++) {
+            int j = i + rand.nextInt(count - i);
+            int edge = walls[j];
+            walls[j] = walls[i];
+
+            int cell1 = region.edgeCell(edge);
+            int cell2 = region.edgeOther(edge);
+            if (sets.union(cell1, cell2)) {
+                region.removeWall(cell1, cell2);
+                remaining--;
+            }
+        }
+    }
+}
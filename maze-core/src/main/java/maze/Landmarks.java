@@ -0,0 +1,76 @@
+package maze;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+// Heuristic ALT: jarak dari setiap sel ke beberapa landmark di tepi maze, dihitung sekali per graph
+// (satu Dijkstra terbalik per landmark, paralel). Cost jalur tidak simetris karena bobot ada di sel,
+// tapi d(u, v) = d(v, u) + w(v) - w(u), jadi satu arah cukup. Dengan t(x) = d(x, L), pertidaksamaan
+// segitiga memberi dua batas bawah d(from, to):
+//   d(from, L) - d(to, L)  = t(from) - t(to)
+//   d(L, to) - d(L, from)  = t(to) - t(from) + w(to) - w(from)
+// Maksimum dari batas-batas itu admissible dan konsisten, jadi A* tetap optimal.
+public class Landmarks implements Heuristic {
+    public static final int DEFAULT_COUNT = 8;
+
+    private final WeightedGraph graph;
+    private final int[] cells;
+    // toLandmark[i][x] = d(x, landmark i)
+    private final int[][] toLandmark;
+
+    private Landmarks(WeightedGraph graph, int[] cells, int[][] toLandmark) {
+        this.graph = graph;
+        this.cells = cells;
+        this.toLandmark = toLandmark;
+    }
+
+    // Landmark disebar rata di sepanjang keliling mulai dari pojok kiri atas
+    public static Landmarks compute(WeightedGraph graph, int count) {
+        int[] perimeter = perimeter(graph.rows, graph.cols);
+        int[] cells = IntStream.range(0, Math.min(count, perimeter.length))
+                .map(i -> perimeter[(int) ((long) i * perimeter.length / count)])
+                .distinct()
+                .toArray();
+        int[][] toLandmark = IntStream.range(0, cells.length).parallel()
+                .mapToObj(i -> DistanceField.distancesTo(graph, cells[i], null))
+                .toArray(int[][]::new);
+        return new Landmarks(graph, cells, toLandmark);
+    }
+
+    // Searah jarum jam: baris atas, kolom kanan, baris bawah, kolom kiri
+    private static int[] perimeter(int rows, int cols) {
+        int[] cells = new int[rows == 1 || cols == 1 ? rows * cols : 2 * (rows + cols) - 4];
+        int n = 0;
+        for (int c = 0; c < cols; c++) cells[n++] = c;
+        for (int r = 1; r < rows; r++) cells[n++] = r * cols + cols - 1;
+        if (rows > 1) for (int c = cols - 2; c >= 0; c--) cells[n++] = (rows - 1) * cols + c;
+        if (cols > 1) for (int r = rows - 2; r >= 1; r--) cells[n++] = r * cols;
+        return Arrays.copyOf(cells, n);
+    }
+
+    public int count() {
+        return cells.length;
+    }
+
+    public int cell(int i) {
+        return cells[i];
+    }
+
+    @Override
+    public int estimate(WeightedGraph graph, int from, int to) {
+        // Graph hasil without() dari graph landmark boleh: jaraknya hanya bisa bertambah
+        if (graph != this.graph && graph.unpruned() != this.graph) {
+            throw new IllegalArgumentException("Landmarks belong to a different graph");
+        }
+        int weightDelta = graph.weight(to) - graph.weight(from);
+        int best = 0;
+        for (int[] t : toLandmark) {
+            int tFrom = t[from];
+            int tTo = t[to];
+            // Landmark di komponen lain tidak memberi informasi
+            if (tFrom == DistanceField.UNREACHABLE || tTo == DistanceField.UNREACHABLE) continue;
+            best = Math.max(best, Math.max(tFrom - tTo, tTo - tFrom + weightDelta));
+        }
+        return best;
+    }
+}
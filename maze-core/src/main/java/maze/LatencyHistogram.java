@@ -0,0 +1,63 @@
+package maze;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Histogram latensi lock-free dengan bucket pangkat dua dalam mikrodetik: bucket i berisi
+// durasi (2^(i-1), 2^i] us. Cukup untuk persentil kasar tanpa menyimpan semua sampel.
+public class LatencyHistogram {
+    private static final int BUCKETS = 40;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong sumNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public void record(long nanos) {
+        long micros = Math.max(1, (nanos + 999) / 1000);
+        int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros - 1));
+        counts.incrementAndGet(bucket);
+        total.incrementAndGet();
+        sumNanos.addAndGet(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    public long count() {
+        return total.get();
+    }
+
+    // Batas atas bucket tempat persentil ke-p jatuh, dalam mikrodetik
+    public long percentileMicros(double p) {
+        long n = total.get();
+        if (n == 0) return 0;
+        long rank = (long) Math.ceil(p / 100 * n);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) return 1L << i;
+        }
+        return 1L << (BUCKETS - 1);
+    }
+
+    public String toJson() {
+        long n = total.get();
+        StringBuilder json = new StringBuilder();
+        json.append("{\"count\":").append(n)
+                .append(",\"mean_us\":").append(String.format(Locale.ROOT, "%.1f", n == 0 ? 0.0 : sumNanos.get() / 1e3 / n))
+                .append(",\"p50_us\":").append(percentileMicros(50))
+                .append(",\"p90_us\":").append(percentileMicros(90))
+                .append(",\"p99_us\":").append(percentileMicros(99))
+                .append(",\"max_us\":").append(maxNanos.get() / 1000)
+                .append(",\"buckets\":{");
+        boolean first = true;
+        for (int i = 0; i < BUCKETS; i++) {
+            long c = counts.get(i);
+            if (c == 0) continue;
+            if (!first) json.append(',');
+            json.append("\"").append(1L << i).append("\":").append(c);
+            first = false;
+        }
+        return json.append("}}").toString();
+    }
+}
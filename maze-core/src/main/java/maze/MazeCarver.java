@@ -0,0 +1,13 @@
+package maze;
+
+import java.util.SplittableRandom;
+
+// Algoritma pembuat maze: menerima region yang semua dindingnya masih tertutup
+// lalu membuka dinding sampai terbentuk spanning tree di dalam region itu
+public interface MazeCarver {
+    void carve(GridRegion region, SplittableRandom rand);
+
+    default void carve(MazeGrid maze, SplittableRandom rand) {
+        carve(new GridRegion(maze), rand);
+    }
+}
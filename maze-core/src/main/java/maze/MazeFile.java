@@ -0,0 +1,51 @@
+package maze;
+
+import java.io.*;
+
+// Format file maze sederhana: "MAZE", rows, cols, lalu rows * cols byte sel (encoding MazeGrid)
+public final class MazeFile {
+    private static final int MAGIC = 0x4D415A45;
+
+    private MazeFile() {
+    }
+
+    public static MazeGrid read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC) throw new IOException("Not a maze file");
+        int rows = data.readInt();
+        int cols = data.readInt();
+        MazeGrid maze = new MazeGrid(rows, cols);
+        byte[] row = new byte[cols];
+        for (int i = 0; i < rows; i++) {
+            data.readFully(row);
+            maze.setRow(i, row);
+        }
+        return maze;
+    }
+
+    // Sink untuk EllerGenerator yang menulis tiap baris langsung ke stream
+    public static class Writer implements MazeRowSink, Closeable {
+        private final DataOutputStream out;
+
+        public Writer(OutputStream out, int rows, int cols) throws IOException {
+            this.out = new DataOutputStream(new BufferedOutputStream(out, 1 << 16));
+            this.out.writeInt(MAGIC);
+            this.out.writeInt(rows);
+            this.out.writeInt(cols);
+        }
+
+        @Override
+        public void acceptRow(int row, byte[] cells) {
+            try {
+                out.write(cells);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+}
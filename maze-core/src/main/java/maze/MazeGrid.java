@@ -0,0 +1,202 @@
+package maze;
+
+import java.util.Arrays;
+
+// Maze disimpan sebagai byte per sel (index = row * cols + col), bukan objek Cell.
+// Bit 0-3: dinding atas/kanan/bawah/kiri, bit 4-5: id terrain, bit 6: start, bit 7: end.
+// Status visited/path milik animasi solver disimpan terpisah di array marks; 2 bit bawah
+// adalah flag, sisanya epoch, sehingga clearMarks() cukup menaikkan epoch. Marks hanya disentuh EDT
+// (MazePanel), jadi reset() yang jalan di thread generator tidak ikut membersihkannya.
+public final class MazeGrid {
+    public static final int TOP = 1;
+    public static final int RIGHT = 2;
+    public static final int BOTTOM = 4;
+    public static final int LEFT = 8;
+    public static final int ALL_WALLS = TOP | RIGHT | BOTTOM | LEFT;
+
+    private static final int TERRAIN_SHIFT = 4;
+    private static final int TERRAIN_MASK = 3 << TERRAIN_SHIFT;
+    private static final int START = 1 << 6;
+    private static final int END = 1 << 7;
+
+    private static final int VISITED = 1;
+    private static final int PATH = 2;
+    private static final int MAX_MARK_EPOCH = Short.MAX_VALUE >> 2;
+
+    public final int rows, cols;
+    private final byte[] cells;
+    private final short[] marks;
+    private int markEpoch = 1;
+    // Naik setiap dinding/terrain berubah, untuk mendeteksi cache turunan (graph, distance field) yang basi.
+    // Bukan volatile: pembaca sudah lewat happens-before (EDT / serah terima sesi) seperti modCount koleksi.
+    private int version;
+    // Dibuang oleh reset/setRow karena keduanya bisa menutup dinding
+    private DeadEnds deadEnds;
+    // Selama bulk edit (worker paralel TiledGenerator) mutator tidak menyentuh version/deadEnds
+    private boolean bulkEdit;
+
+    public MazeGrid(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.cells = new byte[rows * cols];
+        this.marks = new short[rows * cols];
+        reset();
+    }
+
+    public void reset() {
+        Arrays.fill(cells, (byte) ALL_WALLS);
+        version++;
+        deadEnds = null;
+    }
+
+    public int version() {
+        return version;
+    }
+
+    public static byte pack(int walls, Terrain terrain) {
+        return (byte) ((walls & ALL_WALLS) | (terrain.id << TERRAIN_SHIFT));
+    }
+
+    // Salin satu baris dalam encoding yang sama (dipakai MazeRowSink / MazeFile)
+    public void setRow(int row, byte[] rowCells) {
+        setRow(row, 0, rowCells);
+    }
+
+    public void setRow(int row, int col, byte[] rowCells) {
+        System.arraycopy(rowCells, 0, cells, row * cols + col, rowCells.length);
+        if (bulkEdit) return;
+        version++;
+        deadEnds = null;
+    }
+
+    // Mulai edit dari banyak thread sekaligus pada sel yang saling lepas. Dipanggil sebelum worker
+    // mulai dan endBulkEdit setelah semuanya join, sehingga flag-nya sendiri aman dibaca worker.
+    void beginBulkEdit() {
+        bulkEdit = true;
+        deadEnds = null;
+    }
+
+    // version naik sekali untuk seluruh edit
+    void endBulkEdit() {
+        bulkEdit = false;
+        version++;
+    }
+
+    public int size() {
+        return cells.length;
+    }
+
+    public int index(int row, int col) {
+        return row * cols + col;
+    }
+
+    public int row(int cell) {
+        return cell / cols;
+    }
+
+    public int col(int cell) {
+        return cell % cols;
+    }
+
+    public boolean hasWall(int cell, int wall) {
+        return (cells[cell] & wall) != 0;
+    }
+
+    public int walls(int cell) {
+        return cells[cell] & ALL_WALLS;
+    }
+
+    // Buka dinding di antara dua sel yang bertetangga
+    public void removeWall(int a, int b) {
+        int wall = wallBetween(a, b);
+        boolean wasClosed = hasWall(a, wall);
+        clear(a, wall);
+        clear(b, opposite(wall));
+        if (bulkEdit) return;
+        version++;
+        if (wasClosed && deadEnds != null) deadEnds.wallRemoved(a, b);
+    }
+
+    // Arah vertikal dicek dulu: dengan cols == 1 sel di bawah a juga a + 1
+    private int wallBetween(int a, int b) {
+        if (b == a + cols) return BOTTOM;
+        if (b == a - cols) return TOP;
+        if (b == a + 1 && col(a) < cols - 1) return RIGHT;
+        if (b == a - 1 && col(a) > 0) return LEFT;
+        throw new IllegalArgumentException("Cells " + a + " and " + b + " are not neighbors");
+    }
+
+    private static int opposite(int wall) {
+        return ((wall << 2) | (wall >> 2)) & ALL_WALLS;
+    }
+
+    // Hasil dead-end filling untuk start/end ini, disimpan dan diperbarui oleh removeWall berikutnya.
+    // Panggil setelah maze selesai dibuat: selama carving hampir setiap removeWall menghidupkan sel.
+    public DeadEnds deadEnds(int start, int end) {
+        if (deadEnds == null || deadEnds.start != start || deadEnds.end != end) {
+            deadEnds = new DeadEnds(this, start, end);
+        }
+        return deadEnds;
+    }
+
+    private void clear(int cell, int bits) {
+        cells[cell] &= (byte) ~bits;
+    }
+
+    public Terrain terrain(int cell) {
+        return Terrain.byId((cells[cell] & TERRAIN_MASK) >> TERRAIN_SHIFT);
+    }
+
+    public int weight(int cell) {
+        return terrain(cell).weight;
+    }
+
+    public void setTerrain(int cell, Terrain terrain) {
+        cells[cell] = (byte) ((cells[cell] & ~TERRAIN_MASK) | (terrain.id << TERRAIN_SHIFT));
+        if (!bulkEdit) version++;
+    }
+
+    public boolean isStart(int cell) {
+        return (cells[cell] & START) != 0;
+    }
+
+    public boolean isEnd(int cell) {
+        return (cells[cell] & END) != 0;
+    }
+
+    public void setStart(int cell) {
+        cells[cell] |= (byte) START;
+    }
+
+    public void setEnd(int cell) {
+        cells[cell] |= (byte) END;
+    }
+
+    public boolean isVisited(int cell) {
+        return (mark(cell) & VISITED) != 0;
+    }
+
+    public boolean isPath(int cell) {
+        return (mark(cell) & PATH) != 0;
+    }
+
+    public void setVisited(int cell) {
+        marks[cell] = (short) ((markEpoch << 2) | mark(cell) | VISITED);
+    }
+
+    public void setPath(int cell) {
+        marks[cell] = (short) ((markEpoch << 2) | mark(cell) | PATH);
+    }
+
+    private int mark(int cell) {
+        int m = marks[cell];
+        return (m >> 2) == markEpoch ? m & 3 : 0;
+    }
+
+    public void clearMarks() {
+        if (++markEpoch > MAX_MARK_EPOCH) {
+            Arrays.fill(marks, (short) 0);
+            markEpoch = 1;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package maze;
+
+// Penerima maze baris per baris (dipakai EllerGenerator). cells memakai encoding byte
+// yang sama dengan MazeGrid dan boleh dipakai ulang generator setelah method ini return.
+public interface MazeRowSink {
+    void acceptRow(int row, byte[] cells);
+}
@@ -0,0 +1,363 @@
+package maze;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Server HTTP lokal untuk generate maze dan query jalur terpendek.
+// Setiap request ditangani virtual thread sendiri; pekerjaan CPU (generate/solve) dijalankan di pool
+// platform thread seukuran jumlah core, sehingga SolverWorkspace per thread tetap dipakai ulang.
+//
+//   POST   /mazes?rows=&cols=&seed=&generator=&loops=&terrain=&landmarks=   buat maze (+ landmark ALT), balas id
+//   GET    /mazes/{id}                                                      info maze
+//   DELETE /mazes/{id}                                                      hapus dari cache
+//   GET    /mazes/{id}/path?from=r,c&to=r,c&solver=&cells=true              satu query
+//   POST   /mazes/{id}/paths?solver=                                        banyak query, satu per baris "r,c r,c"
+//   GET    /stats                                                           histogram latensi per endpoint
+public class MazeServer {
+    private static final int MAX_BODY_BYTES = 16 << 20;
+    // Batas ukuran maze per request (juga mencegah rows * cols overflow)
+    private static final long MAX_CELLS = 1 << 24;
+
+    // heuristic: Landmarks milik graph ini, atau Manhattan kalau landmarks=0
+    private record CachedMaze(long id, int rows, int cols, GeneratorType generator, long seed, WeightedGraph graph,
+                              Heuristic heuristic) {
+    }
+
+    private static class BadRequest extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        final int status;
+
+        BadRequest(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor();
+    private final ExecutorService workers;
+    private final BatchSolver batchSolver;
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final Map<Long, CachedMaze> mazes;
+    private final Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+
+    public MazeServer(InetSocketAddress address, int cacheSize, int threads) throws IOException {
+        this.workers = Executors.newFixedThreadPool(threads);
+        this.batchSolver = new BatchSolver(workers, threads);
+        this.mazes = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedMaze> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        this.server = HttpServer.create(address, 0);
+        server.setExecutor(requests);
+        server.createContext("/mazes", this::handleMazes);
+        server.createContext("/stats", exchange -> handle(exchange, endpoint(exchange, "/stats", "GET"), () -> {
+            requireMethod(exchange, "GET");
+            return statsJson();
+        }));
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+        requests.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    public InetSocketAddress address() {
+        return server.getAddress();
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = 8080;
+        int cacheSize = 64;
+        int threads = Runtime.getRuntime().availableProcessors();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--port" -> port = Integer.parseInt(args[i + 1]);
+                case "--cache" -> cacheSize = Integer.parseInt(args[i + 1]);
+                case "--threads" -> threads = Integer.parseInt(args[i + 1]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        // Hanya untuk proses lokal
+        MazeServer server = new MazeServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), cacheSize, threads);
+        server.start();
+        System.out.println("Maze server listening on http://" + server.address().getHostString() + ":" + port);
+    }
+
+    private interface Handler {
+        String handle() throws Exception;
+    }
+
+    private void handleMazes(HttpExchange exchange) throws IOException {
+        String[] parts = exchange.getRequestURI().getPath().split("/");
+        // parts: ["", "mazes", id?, action?]
+        String method = exchange.getRequestMethod();
+        if (parts.length == 2) {
+            handle(exchange, endpoint(exchange, "/mazes", "POST"), () -> {
+                requireMethod(exchange, "POST");
+                return createMaze(query(exchange));
+            });
+        } else if (parts.length == 3) {
+            handle(exchange, endpoint(exchange, "/mazes/{id}", "GET", "DELETE"), () -> {
+                CachedMaze maze = lookup(parts[2]);
+                if (method.equals("DELETE")) {
+                    synchronized (mazes) {
+                        mazes.remove(maze.id());
+                    }
+                    return "{\"deleted\":" + maze.id() + "}";
+                }
+                requireMethod(exchange, "GET");
+                return mazeJson(maze);
+            });
+        } else if (parts.length == 4 && parts[3].equals("path")) {
+            handle(exchange, endpoint(exchange, "/mazes/{id}/path", "GET"), () -> {
+                requireMethod(exchange, "GET");
+                CachedMaze maze = lookup(parts[2]);
+                Map<String, String> query = query(exchange);
+                int from = parseCell(maze, query.getOrDefault("from", "0,0"));
+                int to = parseCell(maze, query.getOrDefault("to", (maze.rows() - 1) + "," + (maze.cols() - 1)));
+                SolverType solver = parseSolver(query.get("solver"));
+                boolean cells = Boolean.parseBoolean(query.get("cells"));
+                SolveResult result = compute(() -> solver.create(maze.heuristic()).solve(maze.graph(), from, to));
+                return resultJson(result, cells);
+            });
+        } else if (parts.length == 4 && parts[3].equals("paths")) {
+            handle(exchange, endpoint(exchange, "/mazes/{id}/paths", "POST"), () -> {
+                requireMethod(exchange, "POST");
+                CachedMaze maze = lookup(parts[2]);
+                Map<String, String> query = query(exchange);
+                SolverType solver = parseSolver(query.get("solver"));
+                boolean cells = Boolean.parseBoolean(query.get("cells"));
+                int[] pairs = readPairs(exchange, maze);
+                SolveResult[] results = batchSolver.solve(maze.graph(), pairs, solver, maze.heuristic());
+                StringBuilder json = new StringBuilder("{\"results\":[");
+                for (int i = 0; i < results.length; i++) {
+                    if (i > 0) json.append(',');
+                    json.append(resultJson(results[i], cells));
+                }
+                return json.append("]}").toString();
+            });
+        } else {
+            handle(exchange, "unknown", () -> {
+                throw new BadRequest(404, "Not found");
+            });
+        }
+    }
+
+    // Key histogram: metode dari client hanya dipakai kalau memang didukung route-nya, sisanya satu
+    // bucket OTHER per route, supaya jumlah histogram tidak bisa ditambah sembarang client
+    private static String endpoint(HttpExchange exchange, String route, String... methods) {
+        String method = exchange.getRequestMethod();
+        for (String allowed : methods) {
+            if (allowed.equals(method)) return allowed + " " + route;
+        }
+        return "OTHER " + route;
+    }
+
+    // Bungkus setiap endpoint: status error, content type, dan pencatatan latensi
+    private void handle(HttpExchange exchange, String endpoint, Handler handler) throws IOException {
+        long start = System.nanoTime();
+        int status = 200;
+        String body;
+        try {
+            body = handler.handle();
+        } catch (BadRequest e) {
+            status = e.status;
+            body = errorJson(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            status = 400;
+            body = errorJson(e.getMessage());
+        } catch (Exception e) {
+            status = 500;
+            body = errorJson(e.toString());
+        }
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+        latencies.computeIfAbsent(endpoint, k -> new LatencyHistogram()).record(System.nanoTime() - start);
+    }
+
+    private interface Work<T> {
+        T call();
+    }
+
+    // Jalankan di pool worker; virtual thread request hanya menunggu
+    private <T> T compute(Work<T> work) throws InterruptedException {
+        try {
+            return workers.submit(work::call).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private String createMaze(Map<String, String> query) throws InterruptedException {
+        int rows = Integer.parseInt(query.getOrDefault("rows", "20"));
+        int cols = Integer.parseInt(query.getOrDefault("cols", "32"));
+        if (rows < 1 || cols < 1) throw new IllegalArgumentException("Bad size: " + rows + "x" + cols);
+        if ((long) rows * cols > MAX_CELLS) {
+            throw new IllegalArgumentException("Maze too large: " + rows + "x" + cols + " (max " + MAX_CELLS + " cells)");
+        }
+        long seed = query.containsKey("seed") ? Long.parseLong(query.get("seed")) : new SplittableRandom().nextLong();
+        GeneratorType generator = GeneratorType.valueOf(query.getOrDefault("generator", "PRIM").toUpperCase(Locale.ROOT));
+        double loops = Double.parseDouble(query.getOrDefault("loops", String.valueOf(Mazes.DEFAULT_LOOP_RATIO)));
+        TerrainMix terrain = query.containsKey("terrain") ? TerrainMix.parse(query.get("terrain")) : TerrainMix.DEFAULT;
+        int landmarks = Integer.parseInt(query.getOrDefault("landmarks", String.valueOf(Landmarks.DEFAULT_COUNT)));
+        if (landmarks < 0) throw new IllegalArgumentException("Bad landmark count: " + landmarks);
+
+        CachedMaze cached = compute(() -> {
+            MazeGrid maze = new MazeGrid(rows, cols);
+            Mazes.generate(maze, generator.create(), new SplittableRandom(seed), loops, terrain);
+            WeightedGraph graph = new WeightedGraph(maze);
+            Heuristic heuristic = landmarks > 0 ? Landmarks.compute(graph, landmarks) : Heuristic.MANHATTAN;
+            return new CachedMaze(nextId.getAndIncrement(), rows, cols, generator, seed, graph, heuristic);
+        });
+        synchronized (mazes) {
+            mazes.put(cached.id(), cached);
+        }
+        return mazeJson(cached);
+    }
+
+    private CachedMaze lookup(String id) {
+        CachedMaze maze;
+        try {
+            synchronized (mazes) {
+                maze = mazes.get(Long.parseLong(id));
+            }
+        } catch (NumberFormatException e) {
+            throw new BadRequest(404, "Unknown maze: " + id);
+        }
+        if (maze == null) throw new BadRequest(404, "Unknown maze: " + id);
+        return maze;
+    }
+
+    // Body: satu query per baris, "fromRow,fromCol toRow,toCol"; baris kosong diabaikan
+    private int[] readPairs(HttpExchange exchange, CachedMaze maze) throws IOException {
+        List<String> lines = new ArrayList<>();
+        long bytes = 0;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8))) {
+            for (String line; (line = reader.readLine()) != null; ) {
+                bytes += line.length() + 1;
+                if (bytes > MAX_BODY_BYTES) throw new BadRequest(413, "Body too large");
+                if (!line.isBlank()) lines.add(line.trim());
+            }
+        }
+        int[] pairs = new int[lines.size() * 2];
+        for (int i = 0; i < lines.size(); i++) {
+            String[] ends = lines.get(i).split("\\s+");
+            if (ends.length != 2) throw new IllegalArgumentException("Bad query line " + (i + 1) + ": " + lines.get(i));
+            pairs[i * 2] = parseCell(maze, ends[0]);
+            pairs[i * 2 + 1] = parseCell(maze, ends[1]);
+        }
+        return pairs;
+    }
+
+    private static int parseCell(CachedMaze maze, String text) {
+        String[] rc = text.split(",");
+        if (rc.length != 2) throw new IllegalArgumentException("Bad cell: " + text);
+        int row = Integer.parseInt(rc[0].trim());
+        int col = Integer.parseInt(rc[1].trim());
+        if (row < 0 || row >= maze.rows() || col < 0 || col >= maze.cols()) {
+            throw new IllegalArgumentException("Cell outside maze: " + text);
+        }
+        return row * maze.cols() + col;
+    }
+
+    private static SolverType parseSolver(String name) {
+        if (name == null) return SolverType.ASTAR;
+        name = name.toUpperCase(Locale.ROOT);
+        return SolverType.valueOf(name.equals("A*") ? "ASTAR" : name);
+    }
+
+    private static void requireMethod(HttpExchange exchange, String method) {
+        if (!exchange.getRequestMethod().equals(method)) throw new BadRequest(405, "Method not allowed");
+    }
+
+    private static Map<String, String> query(HttpExchange exchange) {
+        Map<String, String> params = new HashMap<>();
+        String raw = exchange.getRequestURI().getRawQuery();
+        if (raw == null) return params;
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq < 0) continue;
+            params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    private static String mazeJson(CachedMaze maze) {
+        return "{\"id\":" + maze.id() + ",\"rows\":" + maze.rows() + ",\"cols\":" + maze.cols()
+                + ",\"generator\":\"" + maze.generator().name() + "\",\"seed\":" + maze.seed()
+                + ",\"landmarks\":" + (maze.heuristic() instanceof Landmarks landmarks ? landmarks.count() : 0) + "}";
+    }
+
+    private static String resultJson(SolveResult result, boolean cells) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"found\":").append(result.found())
+                .append(",\"cost\":").append(result.cost)
+                .append(",\"length\":").append(result.path.length)
+                .append(",\"expanded\":").append(result.expanded)
+                .append(",\"solve_us\":").append(result.elapsedNanos / 1000);
+        if (cells) {
+            json.append(",\"cells\":[");
+            for (int i = 0; i < result.path.length; i++) {
+                if (i > 0) json.append(',');
+                json.append(result.path[i]);
+            }
+            json.append(']');
+        }
+        return json.append('}').toString();
+    }
+
+    private String statsJson() {
+        StringBuilder json = new StringBuilder("{");
+        boolean first = true;
+        for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(latencies).entrySet()) {
+            if (!first) json.append(',');
+            json.append('"').append(entry.getKey()).append("\":").append(entry.getValue().toJson());
+            first = false;
+        }
+        return json.append('}').toString();
+    }
+
+    private static String errorJson(String message) {
+        String escaped = String.valueOf(message).replace("\\", "\\\\").replace("\"", "\\\"");
+        return "{\"error\":\"" + escaped + "\"}";
+    }
+}
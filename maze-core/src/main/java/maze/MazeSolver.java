@@ -0,0 +1,9 @@
+package maze;
+
+public interface MazeSolver {
+    SolveResult solve(WeightedGraph graph, int start, int end, SolveListener listener);
+
+    default SolveResult solve(WeightedGraph graph, int start, int end) {
+        return solve(graph, start, end, SolveListener.NONE);
+    }
+}
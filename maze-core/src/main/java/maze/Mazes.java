@@ -0,0 +1,76 @@
+package maze;
+
+import java.util.SplittableRandom;
+
+// Langkah-langkah pembuatan maze yang dipakai bersama oleh semua MazeCarver
+public final class Mazes {
+    public static final double DEFAULT_LOOP_RATIO = 0.3;
+
+    private Mazes() {
+    }
+
+    public static MazeGrid generate(int rows, int cols, MazeCarver carver, SplittableRandom rand) {
+        MazeGrid maze = new MazeGrid(rows, cols);
+        generate(maze, carver, rand);
+        return maze;
+    }
+
+    public static void generate(MazeGrid maze, MazeCarver carver, SplittableRandom rand) {
+        generate(maze, carver, rand, DEFAULT_LOOP_RATIO, TerrainMix.DEFAULT);
+    }
+
+    public static void generate(MazeGrid maze, MazeCarver carver, SplittableRandom rand,
+                                double loopRatio, TerrainMix terrain) {
+        carver.carve(maze, rand);
+        addLoops(maze, loopRatio, rand);
+        assignTerrain(maze, rand, terrain);
+    }
+
+    // Buka sebagian dinding dalam yang tersisa supaya ada lebih dari satu jalur
+    public static void addLoops(MazeGrid maze, double ratio, SplittableRandom rand) {
+        addLoops(new GridRegion(maze), ratio, rand);
+    }
+
+    public static void addLoops(GridRegion region, double ratio, SplittableRandom rand) {
+        int n = region.size();
+        int[] walls = new int[2 * n];
+        int count = 0;
+        for (int cell = 0; cell < n; cell++) {
+            if (region.col(cell) < region.cols - 1 && region.hasWall(cell, MazeGrid.RIGHT)) walls[count++] = cell * 2;
+            if (cell + region.cols < n && region.hasWall(cell, MazeGrid.BOTTOM)) walls[count++] = cell * 2 + 1;
+        }
+        int wallsToRemove = (int) (count * ratio);
+        for (int i = 0; i < wallsToRemove; i++) {
+            // Partial Fisher-Yates: ambil dinding acak dari sisa [i, count) tanpa geser array
+            int j = i + rand.nextInt(count - i);
+            int edge = walls[j];
+            walls[j] = walls[i];
+            region.openEdge(edge);
+        }
+    }
+
+    public static void assignTerrain(MazeGrid maze, SplittableRandom rand) {
+        assignTerrain(maze, rand, TerrainMix.DEFAULT);
+    }
+
+    public static void assignTerrain(MazeGrid maze, SplittableRandom rand, TerrainMix terrain) {
+        assignTerrain(new GridRegion(maze), rand, terrain);
+        markStartAndEnd(maze);
+    }
+
+    public static void assignTerrain(GridRegion region, SplittableRandom rand) {
+        assignTerrain(region, rand, TerrainMix.DEFAULT);
+    }
+
+    public static void assignTerrain(GridRegion region, SplittableRandom rand, TerrainMix terrain) {
+        for (int cell = 0; cell < region.size(); cell++) {
+            region.setTerrain(cell, terrain.pick(rand));
+        }
+    }
+
+    // Start (pojok kiri atas) dan trophy (pojok kanan bawah) selalu di atas BRICK
+    public static void markStartAndEnd(MazeGrid maze) {
+        maze.setTerrain(0, Terrain.STONE);
+        maze.setTerrain(maze.size() - 1, Terrain.STONE);
+    }
+}
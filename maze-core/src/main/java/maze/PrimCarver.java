@@ -0,0 +1,63 @@
+package maze;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.SplittableRandom;
+
+// Randomized Prim. Frontier berisi edge id (lihat GridRegion) dalam int[]; dinding acak
+// diambil dengan swap-remove sehingga tiap langkah O(1).
+public class PrimCarver implements MazeCarver {
+    @Override
+    public void carve(GridRegion region, SplittableRandom rand) {
+        new Run(region).carve(rand);
+    }
+
+    // State per pemanggilan, supaya satu PrimCarver aman dipakai banyak tile sekaligus
+    private static class Run {
+        private final GridRegion region;
+        private final BitSet visited;
+        private int[] frontier = new int[64];
+        private int size;
+
+        Run(GridRegion region) {
+            this.region = region;
+            this.visited = new BitSet(region.size());
+        }
+
+        void carve(SplittableRandom rand) {
+            int current = rand.nextInt(region.size());
+            visited.set(current);
+            addWalls(current);
+
+            while (size > 0) {
+                int i = rand.nextInt(size);
+                int edge = frontier[i];
+                frontier[i] = frontier[--size];
+
+                int cell1 = region.edgeCell(edge);
+                int cell2 = region.edgeOther(edge);
+                if (visited.get(cell1) != visited.get(cell2)) {
+                    region.removeWall(cell1, cell2);
+                    int unvisited = visited.get(cell1) ? cell2 : cell1;
+                    visited.set(unvisited);
+                    addWalls(unvisited);
+                }
+            }
+        }
+
+        private void addWalls(int cell) {
+            int cols = region.cols;
+            int row = region.row(cell);
+            int col = region.col(cell);
+            if (row > 0 && !visited.get(cell - cols)) push((cell - cols) * 2 + 1);
+            if (row < region.rows - 1 && !visited.get(cell + cols)) push(cell * 2 + 1);
+            if (col > 0 && !visited.get(cell - 1)) push((cell - 1) * 2);
+            if (col < cols - 1 && !visited.get(cell + 1)) push(cell * 2);
+        }
+
+        private void push(int edge) {
+            if (size == frontier.length) frontier = Arrays.copyOf(frontier, size * 2);
+            frontier[size++] = edge;
+        }
+    }
+}
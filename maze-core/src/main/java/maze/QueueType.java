@@ -0,0 +1,11 @@
+package maze;
+
+public enum QueueType {
+    BINARY_HEAP,
+    BUCKET;
+
+    // maxStep: selisih prioritas terbesar antara sel yang di-pop dan sel yang di-push
+    public IntPriorityQueue create(int maxStep) {
+        return this == BUCKET ? new BucketQueue(maxStep) : new BinaryHeapQueue();
+    }
+}
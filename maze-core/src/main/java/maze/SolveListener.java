@@ -0,0 +1,12 @@
+package maze;
+
+// Observer untuk solver: UI memakai ini untuk animasi, batch job cukup pakai NONE
+public interface SolveListener {
+    SolveListener NONE = cell -> { };
+
+    void onVisit(int cell);
+
+    default boolean isCancelled() {
+        return false;
+    }
+}
@@ -0,0 +1,43 @@
+package maze;
+
+public class SolveResult {
+    private static final int[] NO_PATH = new int[0];
+
+    public final int[] path;
+    public final int cost;
+    public final int expanded;
+    public final long elapsedNanos;
+
+    public SolveResult(int[] path, int cost, int expanded, long elapsedNanos) {
+        this.path = path;
+        this.cost = cost;
+        this.expanded = expanded;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public boolean found() {
+        return path.length > 0;
+    }
+
+    public static SolveResult notFound(int expanded, long startNanos) {
+        return new SolveResult(NO_PATH, -1, expanded, System.nanoTime() - startNanos);
+    }
+
+    public static SolveResult fromParents(WeightedGraph graph, SolverWorkspace workspace,
+                                          int start, int end, int expanded, long startNanos) {
+        int length = 1;
+        for (int cell = end; cell != start; cell = workspace.parent(cell)) length++;
+
+        int[] path = new int[length];
+        int totalCost = 0;
+        int cell = end;
+        for (int i = length - 1; i >= 0; i--) {
+            path[i] = cell;
+            if (cell != start) {
+                totalCost += graph.weight(cell);
+                cell = workspace.parent(cell);
+            }
+        }
+        return new SolveResult(path, totalCost, expanded, System.nanoTime() - startNanos);
+    }
+}
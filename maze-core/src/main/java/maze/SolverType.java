@@ -0,0 +1,38 @@
+package maze;
+
+public enum SolverType {
+    BFS("BFS"),
+    DFS("DFS"),
+    DIJKSTRA("DIJKSTRA"),
+    ASTAR("A*"),
+    BIDIRECTIONAL_DIJKSTRA("BI-DIJKSTRA"),
+    BIDIRECTIONAL_ASTAR("BI-A*"),
+    CORRIDOR_DIJKSTRA("CORRIDOR");
+
+    public final String label;
+
+    SolverType(String label) {
+        this.label = label;
+    }
+
+    public MazeSolver create() {
+        return create(Heuristic.MANHATTAN);
+    }
+
+    public boolean usesHeuristic() {
+        return this == ASTAR || this == BIDIRECTIONAL_ASTAR;
+    }
+
+    // heuristic hanya dipakai varian A*, misalnya Landmarks milik graph yang akan di-solve
+    public MazeSolver create(Heuristic heuristic) {
+        switch (this) {
+            case BFS: return new BFSSolver();
+            case DFS: return new DFSSolver();
+            case DIJKSTRA: return new DijkstraSolver();
+            case BIDIRECTIONAL_DIJKSTRA: return BidirectionalSolver.dijkstra(false);
+            case BIDIRECTIONAL_ASTAR: return BidirectionalSolver.astar(heuristic, false);
+            case CORRIDOR_DIJKSTRA: return new CorridorSolver();
+            default: return new AStarSolver(heuristic);
+        }
+    }
+}
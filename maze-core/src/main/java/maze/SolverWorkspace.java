@@ -0,0 +1,113 @@
+package maze;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+// Scratch state untuk satu solve: dist/parent dalam int[] yang dipakai ulang.
+// Sel dianggap "belum disentuh" kalau stamp-nya bukan epoch sekarang, jadi reset cukup epoch++.
+// Satu workspace per thread (ThreadLocal), sehingga solve paralel tidak saling ganggu.
+public class SolverWorkspace {
+    public static final int INF = Integer.MAX_VALUE;
+
+    private static final ThreadLocal<SolverWorkspace> POOL = ThreadLocal.withInitial(SolverWorkspace::new);
+    // Workspace kedua untuk sisi mundur pencarian dua arah
+    private static final ThreadLocal<SolverWorkspace> REVERSE_POOL = ThreadLocal.withInitial(SolverWorkspace::new);
+    private static final VarHandle CLOSED = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private int[] dist = new int[0];
+    private int[] parent = new int[0];
+    private int[] seen = new int[0];
+    private int[] closed = new int[0];
+    private int[] buffer = new int[0];
+    private int epoch;
+
+    private final BinaryHeapQueue heap = new BinaryHeapQueue();
+    private BucketQueue bucket;
+    private int bucketStep = -1;
+
+    public static SolverWorkspace forThread(int size) {
+        SolverWorkspace workspace = POOL.get();
+        workspace.begin(size);
+        return workspace;
+    }
+
+    public static SolverWorkspace reverseForThread(int size) {
+        SolverWorkspace workspace = REVERSE_POOL.get();
+        workspace.begin(size);
+        return workspace;
+    }
+
+    public void begin(int size) {
+        if (dist.length < size) {
+            dist = new int[size];
+            parent = new int[size];
+            seen = new int[size];
+            closed = new int[size];
+            buffer = new int[size];
+            epoch = 0;
+        }
+        if (++epoch == Integer.MAX_VALUE) {
+            Arrays.fill(seen, 0);
+            Arrays.fill(closed, 0);
+            epoch = 1;
+        }
+    }
+
+    public int dist(int cell) {
+        return seen[cell] == epoch ? dist[cell] : INF;
+    }
+
+    public boolean isSeen(int cell) {
+        return seen[cell] == epoch;
+    }
+
+    // Catat jarak dan parent sekaligus menandai sel sebagai sudah disentuh
+    public void reach(int cell, int distance, int from) {
+        seen[cell] = epoch;
+        dist[cell] = distance;
+        parent[cell] = from;
+    }
+
+    public int parent(int cell) {
+        return parent[cell];
+    }
+
+    public boolean isClosed(int cell) {
+        return closed[cell] == epoch;
+    }
+
+    public void close(int cell) {
+        closed[cell] = epoch;
+    }
+
+    // Versi volatile untuk dua thread yang saling membaca status closed (pencarian dua arah paralel).
+    // dist/parent ditulis sebelum closeShared, jadi terlihat oleh thread yang melihat sel sudah closed.
+    public boolean isClosedShared(int cell) {
+        return (int) CLOSED.getVolatile(closed, cell) == epoch;
+    }
+
+    public void closeShared(int cell) {
+        CLOSED.setVolatile(closed, cell, epoch);
+    }
+
+    // Array antrian/stack sebesar jumlah sel, untuk BFS dan DFS
+    public int[] buffer() {
+        return buffer;
+    }
+
+    public IntPriorityQueue queue(QueueType type, int maxStep) {
+        IntPriorityQueue queue;
+        if (type == QueueType.BUCKET) {
+            if (bucket == null || bucketStep != maxStep) {
+                bucket = new BucketQueue(maxStep);
+                bucketStep = maxStep;
+            }
+            queue = bucket;
+        } else {
+            queue = heap;
+        }
+        queue.clear();
+        return queue;
+    }
+}
@@ -0,0 +1,33 @@
+package maze;
+
+import java.awt.Color;
+
+public class Terrain {
+    public final int id;
+    public final String name;
+    public final int weight;
+    public final Color color;
+
+    public Terrain(int id, String name, int weight, Color color) {
+        this.id = id;
+        this.name = name;
+        this.weight = weight;
+        this.color = color;
+    }
+
+    public static final Terrain STONE =
+            new Terrain(0, "BRICK", 0, new Color(194, 166, 145));  // Soft beige/tan
+    public static final Terrain GRASS =
+            new Terrain(1, "GRASS", 1, new Color(144, 238, 144));  // Soft sage green
+    public static final Terrain SAND =
+            new Terrain(2, "SAND", 5, new Color(230, 198, 124));   // Soft butter yellow
+    public static final Terrain LAVA =
+            new Terrain(3, "LAVA", 10, new Color(255, 165, 0));  // Soft coral/rose
+
+    // Urutan sesuai id, dipakai MazeGrid untuk decode 2 bit terrain
+    private static final Terrain[] BY_ID = {STONE, GRASS, SAND, LAVA};
+
+    public static Terrain byId(int id) {
+        return BY_ID[id];
+    }
+}
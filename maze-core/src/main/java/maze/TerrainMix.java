@@ -0,0 +1,46 @@
+package maze;
+
+import java.util.SplittableRandom;
+
+// Distribusi terrain acak dalam bobot relatif, urutan STONE, GRASS, SAND, LAVA
+public class TerrainMix {
+    public static final TerrainMix DEFAULT = new TerrainMix(45, 20, 17, 18);
+
+    private final int[] weights;
+    private final int[] cumulative;
+    private final int total;
+
+    public TerrainMix(int stone, int grass, int sand, int lava) {
+        this.weights = new int[]{stone, grass, sand, lava};
+        this.cumulative = new int[4];
+        int sum = 0;
+        for (int i = 0; i < 4; i++) {
+            if (weights[i] < 0) throw new IllegalArgumentException("Negative terrain weight: " + weights[i]);
+            sum += weights[i];
+            cumulative[i] = sum;
+        }
+        if (sum == 0) throw new IllegalArgumentException("Terrain weights sum to zero");
+        this.total = sum;
+    }
+
+    // Format "45,20,17,18"
+    public static TerrainMix parse(String text) {
+        String[] parts = text.split(",");
+        if (parts.length != 4) throw new IllegalArgumentException("Expected 4 terrain weights: " + text);
+        return new TerrainMix(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()),
+                Integer.parseInt(parts[2].trim()), Integer.parseInt(parts[3].trim()));
+    }
+
+    public Terrain pick(SplittableRandom rand) {
+        int r = rand.nextInt(total);
+        for (int i = 0; i < 3; i++) {
+            if (r < cumulative[i]) return Terrain.byId(i);
+        }
+        return Terrain.LAVA;
+    }
+
+    @Override
+    public String toString() {
+        return weights[0] + "," + weights[1] + "," + weights[2] + "," + weights[3];
+    }
+}
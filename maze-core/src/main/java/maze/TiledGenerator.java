@@ -0,0 +1,131 @@
+package maze;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Generator paralel: grid dibagi jadi tile, tiap tile di-carve + diberi loop + terrain oleh
+// worker ForkJoinPool dengan SplittableRandom sendiri. Setelah semua selesai, tile disambung
+// lewat spanning tree antar-tile (satu dinding seam dibuka per pasangan tile), dinding seam
+// lainnya dibuka dengan peluang loopRatio. Semua random di-split berurutan dari seed, jadi
+// hasilnya sama untuk seed yang sama berapapun jumlah thread-nya. Selama generate maze ada dalam
+// bulk edit: worker tidak menyentuh version/deadEnds MazeGrid, version naik sekali di akhir.
+public class TiledGenerator {
+    public static final int DEFAULT_TILE_SIZE = 256;
+
+    private final MazeCarver carver;
+    private final int tileSize;
+    private final double loopRatio;
+    private final TerrainMix terrain;
+    private final ForkJoinPool pool;
+
+    public TiledGenerator(MazeCarver carver) {
+        this(carver, DEFAULT_TILE_SIZE, Mazes.DEFAULT_LOOP_RATIO, TerrainMix.DEFAULT, ForkJoinPool.commonPool());
+    }
+
+    public TiledGenerator(MazeCarver carver, double loopRatio, TerrainMix terrain) {
+        this(carver, DEFAULT_TILE_SIZE, loopRatio, terrain, ForkJoinPool.commonPool());
+    }
+
+    public TiledGenerator(MazeCarver carver, int tileSize, double loopRatio, TerrainMix terrain, ForkJoinPool pool) {
+        this.carver = carver;
+        this.tileSize = tileSize;
+        this.loopRatio = loopRatio;
+        this.terrain = terrain;
+        this.pool = pool;
+    }
+
+    public MazeGrid generate(int rows, int cols, long seed) {
+        MazeGrid maze = new MazeGrid(rows, cols);
+        generate(maze, seed);
+        return maze;
+    }
+
+    public void generate(MazeGrid maze, long seed) {
+        maze.beginBulkEdit();
+        try {
+            generateTiles(maze, seed);
+        } finally {
+            maze.endBulkEdit();
+        }
+    }
+
+    private void generateTiles(MazeGrid maze, long seed) {
+        int tileRows = (maze.rows + tileSize - 1) / tileSize;
+        int tileCols = (maze.cols + tileSize - 1) / tileSize;
+        SplittableRandom root = new SplittableRandom(seed);
+
+        List<RecursiveAction> tiles = new ArrayList<>(tileRows * tileCols);
+        for (int tr = 0; tr < tileRows; tr++) {
+            for (int tc = 0; tc < tileCols; tc++) {
+                int top = tr * tileSize;
+                int left = tc * tileSize;
+                GridRegion region = new GridRegion(maze, top, left,
+                        Math.min(tileSize, maze.rows - top), Math.min(tileSize, maze.cols - left));
+                SplittableRandom rand = root.split();
+                tiles.add(new RecursiveAction() {
+                    @Override
+                    protected void compute() {
+                        carver.carve(region, rand);
+                        Mazes.addLoops(region, loopRatio, rand);
+                        Mazes.assignTerrain(region, rand, terrain);
+                    }
+                });
+            }
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tiles);
+            }
+        });
+
+        stitch(maze, tileRows, tileCols, root.split());
+        Mazes.markStartAndEnd(maze);
+    }
+
+    // Seam antar tile: edge id = tile * 2 (seam kanan) atau tile * 2 + 1 (seam bawah)
+    private void stitch(MazeGrid maze, int tileRows, int tileCols, SplittableRandom rand) {
+        int tiles = tileRows * tileCols;
+        int[] seams = new int[2 * tiles];
+        int count = 0;
+        for (int t = 0; t < tiles; t++) {
+            if (t % tileCols < tileCols - 1) seams[count++] = t * 2;
+            if (t + tileCols < tiles) seams[count++] = t * 2 + 1;
+        }
+
+        DisjointSet sets = new DisjointSet(tiles);
+        for (int i = 0; i < count; i++) {
+            int j = i + rand.nextInt(count - i);
+            int seam = seams[j];
+            seams[j] = seams[i];
+
+            int tile = seam >>> 1;
+            boolean right = (seam & 1) == 0;
+            int other = right ? tile + 1 : tile + tileCols;
+            boolean tree = sets.union(tile, other);
+            openSeam(maze, tile / tileCols, tile % tileCols, right, tree, rand);
+        }
+    }
+
+    // Dinding sepanjang seam: satu dinding acak kalau seam ini bagian spanning tree,
+    // sisanya masing-masing dibuka dengan peluang loopRatio
+    private void openSeam(MazeGrid maze, int tr, int tc, boolean right, boolean tree, SplittableRandom rand) {
+        int top = tr * tileSize;
+        int left = tc * tileSize;
+        int length = right ? Math.min(tileSize, maze.rows - top) : Math.min(tileSize, maze.cols - left);
+        int door = tree ? rand.nextInt(length) : -1;
+        for (int k = 0; k < length; k++) {
+            if (k != door && rand.nextDouble() >= loopRatio) continue;
+            if (right) {
+                int cell = maze.index(top + k, left + tileSize - 1);
+                maze.removeWall(cell, cell + 1);
+            } else {
+                int cell = maze.index(top + tileSize - 1, left + k);
+                maze.removeWall(cell, cell + maze.cols);
+            }
+        }
+    }
+}
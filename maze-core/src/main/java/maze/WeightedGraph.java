@@ -0,0 +1,181 @@
+package maze;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+// Adjacency dalam format CSR (compressed sparse row): tetangga sel v ada di
+// targets[offsets[v] .. offsets[v+1]), bobot edge = bobot terrain sel tujuan.
+public class WeightedGraph {
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    public final int rows, cols;
+    // MazeGrid.version() saat graph dibangun
+    public final int sourceVersion;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] edgeWeights;
+    private final int[] cellWeights;
+    private final int maxWeight;
+    private final int minWeight;
+    // Graph asal kalau ini hasil without(), selain itu graph ini sendiri
+    private final WeightedGraph unpruned;
+    // Dibangun saat pertama diminta; race-nya aman karena hasil dua thread identik
+    private volatile CorridorGraph corridors;
+
+    public WeightedGraph(MazeGrid maze) {
+        this.rows = maze.rows;
+        this.cols = maze.cols;
+        this.sourceVersion = maze.version();
+        this.unpruned = this;
+        int n = maze.size();
+        boolean parallel = n >= PARALLEL_THRESHOLD;
+
+        offsets = new int[n + 1];
+        cellWeights = new int[n];
+        rowRange(parallel).forEach(i -> countRow(maze, i));
+        Arrays.parallelPrefix(offsets, Integer::sum);
+
+        targets = new int[offsets[n]];
+        edgeWeights = new int[offsets[n]];
+        rowRange(parallel).forEach(i -> fillRow(maze, i));
+        maxWeight = Arrays.stream(cellWeights).max().orElse(0);
+        minWeight = Arrays.stream(cellWeights).min().orElse(0);
+    }
+
+    private WeightedGraph(WeightedGraph source, int[] offsets, int[] targets, int[] edgeWeights) {
+        this.rows = source.rows;
+        this.cols = source.cols;
+        this.sourceVersion = source.sourceVersion;
+        this.unpruned = source.unpruned;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.edgeWeights = edgeWeights;
+        this.cellWeights = source.cellWeights;
+        this.maxWeight = source.maxWeight;
+        this.minWeight = source.minWeight;
+    }
+
+    // Graph yang sama tanpa edge ke/dari sel yang terisi dead-end filling; hanya untuk query
+    // deadEnds.start -> deadEnds.end. Sel terisi tetap ada tetapi tanpa tetangga.
+    public WeightedGraph without(DeadEnds deadEnds) {
+        int n = size();
+        int[] prunedOffsets = new int[n + 1];
+        for (int cell = 0; cell < n; cell++) {
+            int degree = 0;
+            if (!deadEnds.isFilled(cell)) {
+                for (int e = offsets[cell]; e < offsets[cell + 1]; e++) {
+                    if (!deadEnds.isFilled(targets[e])) degree++;
+                }
+            }
+            prunedOffsets[cell + 1] = prunedOffsets[cell] + degree;
+        }
+        int[] prunedTargets = new int[prunedOffsets[n]];
+        int[] prunedWeights = new int[prunedOffsets[n]];
+        for (int cell = 0, p = 0; cell < n; cell++) {
+            if (deadEnds.isFilled(cell)) continue;
+            for (int e = offsets[cell]; e < offsets[cell + 1]; e++) {
+                if (deadEnds.isFilled(targets[e])) continue;
+                prunedTargets[p] = targets[e];
+                prunedWeights[p++] = edgeWeights[e];
+            }
+        }
+        return new WeightedGraph(this, prunedOffsets, prunedTargets, prunedWeights);
+    }
+
+    // Graph lengkap tempat graph ini dipangkas. Heuristic konsisten milik graph lengkap tetap
+    // konsisten di sini karena pemangkasan hanya membuang edge.
+    public WeightedGraph unpruned() {
+        return unpruned;
+    }
+
+    private IntStream rowRange(boolean parallel) {
+        IntStream range = IntStream.range(0, rows);
+        return parallel ? range.parallel() : range;
+    }
+
+    private void countRow(MazeGrid maze, int i) {
+        for (int j = 0; j < cols; j++) {
+            int cell = i * cols + j;
+            cellWeights[cell] = maze.weight(cell);
+            int degree = 0;
+            if (!maze.hasWall(cell, MazeGrid.TOP) && i > 0) degree++;
+            if (!maze.hasWall(cell, MazeGrid.RIGHT) && j < cols-1) degree++;
+            if (!maze.hasWall(cell, MazeGrid.BOTTOM) && i < rows-1) degree++;
+            if (!maze.hasWall(cell, MazeGrid.LEFT) && j > 0) degree++;
+            offsets[cell + 1] = degree;
+        }
+    }
+
+    private void fillRow(MazeGrid maze, int i) {
+        for (int j = 0; j < cols; j++) {
+            int cell = i * cols + j;
+            int e = offsets[cell];
+            if (!maze.hasWall(cell, MazeGrid.TOP) && i > 0) e = addEdge(e, cell - cols);
+            if (!maze.hasWall(cell, MazeGrid.RIGHT) && j < cols-1) e = addEdge(e, cell + 1);
+            if (!maze.hasWall(cell, MazeGrid.BOTTOM) && i < rows-1) e = addEdge(e, cell + cols);
+            if (!maze.hasWall(cell, MazeGrid.LEFT) && j > 0) addEdge(e, cell - 1);
+        }
+    }
+
+    private int addEdge(int e, int target) {
+        targets[e] = target;
+        edgeWeights[e] = cellWeights[target];
+        return e + 1;
+    }
+
+    public int size() {
+        return cellWeights.length;
+    }
+
+    public int row(int cell) {
+        return cell / cols;
+    }
+
+    public int col(int cell) {
+        return cell % cols;
+    }
+
+    // Iterasi tanpa alokasi: for (int e = firstEdge(v); e < endEdge(v); e++) target(e)
+    public int firstEdge(int cell) {
+        return offsets[cell];
+    }
+
+    public int endEdge(int cell) {
+        return offsets[cell + 1];
+    }
+
+    public int degree(int cell) {
+        return offsets[cell + 1] - offsets[cell];
+    }
+
+    public int target(int edge) {
+        return targets[edge];
+    }
+
+    public int edgeWeight(int edge) {
+        return edgeWeights[edge];
+    }
+
+    public int weight(int cell) {
+        return cellWeights[cell];
+    }
+
+    // true kalau dinding/terrain maze belum berubah sejak graph ini dibangun
+    public boolean isCurrent(MazeGrid maze) {
+        return maze.rows == rows && maze.cols == cols && maze.version() == sourceVersion;
+    }
+
+    public int maxWeight() {
+        return maxWeight;
+    }
+
+    public int minWeight() {
+        return minWeight;
+    }
+
+    public CorridorGraph corridors() {
+        CorridorGraph result = corridors;
+        if (result == null) corridors = result = new CorridorGraph(this);
+        return result;
+    }
+}
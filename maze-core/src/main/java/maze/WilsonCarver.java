@@ -0,0 +1,45 @@
+package maze;
+
+import java.util.BitSet;
+import java.util.SplittableRandom;
+
+// Wilson: loop-erased random walk dari tiap sel di luar tree sampai menyentuh tree.
+// Arah terakhir yang diambil dari tiap sel disimpan di next[], jadi loop terhapus otomatis.
+public class WilsonCarver implements MazeCarver {
+    @Override
+    public void carve(GridRegion region, SplittableRandom rand) {
+        int n = region.size();
+        BitSet inTree = new BitSet(n);
+        int[] next = new int[n];
+        inTree.set(rand.nextInt(n));
+
+        for (int origin = inTree.nextClearBit(0); origin < n; origin = inTree.nextClearBit(origin + 1)) {
+            int cell = origin;
+            while (!inTree.get(cell)) {
+                int step = randomNeighbor(region, cell, rand);
+                next[cell] = step;
+                cell = step;
+            }
+
+            cell = origin;
+            while (!inTree.get(cell)) {
+                inTree.set(cell);
+                region.removeWall(cell, next[cell]);
+                cell = next[cell];
+            }
+        }
+    }
+
+    private int randomNeighbor(GridRegion region, int cell, SplittableRandom rand) {
+        int row = region.row(cell);
+        int col = region.col(cell);
+        while (true) {
+            switch (rand.nextInt(4)) {
+                case 0: if (row > 0) return cell - region.cols; break;
+                case 1: if (row < region.rows - 1) return cell + region.cols; break;
+                case 2: if (col > 0) return cell - 1; break;
+                default: if (col < region.cols - 1) return cell + 1; break;
+            }
+        }
+    }
+}
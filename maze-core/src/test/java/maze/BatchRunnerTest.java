@@ -0,0 +1,37 @@
+package maze;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BatchRunnerTest {
+    @Test
+    void streamWritesTheEllerMazeRowByRow(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("big.maze");
+        BatchRunner.Config config = BatchRunner.Config.parse(new String[]{
+                "--stream", file.toString(), "--size", "40x30", "--seed", "7", "--loops", "0.2", "--terrain", "1,1,1,1"});
+        BatchRunner.stream(config, new PrintStream(new ByteArrayOutputStream()));
+
+        MazeGrid expected = new MazeGrid(40, 30);
+        new EllerGenerator(40, 30, 0.2, TerrainMix.parse("1,1,1,1")).generate(new SplittableRandom(7), expected::setRow);
+        try (InputStream in = Files.newInputStream(file)) {
+            assertArrayEquals(MazeChecks.cells(expected), MazeChecks.cells(MazeFile.read(in)));
+        }
+    }
+
+    @Test
+    void streamRejectsOtherGeneratorsAndSeveralMazes() {
+        assertThrows(IllegalArgumentException.class,
+                () -> BatchRunner.Config.parse(new String[]{"--stream", "x.maze", "--generator", "PRIM"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> BatchRunner.Config.parse(new String[]{"--stream", "x.maze", "--size", "10x10,20x20"}));
+    }
+}
@@ -0,0 +1,54 @@
+package maze;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class BidirectionalSolverTest {
+    @Test
+    void costMatchesDijkstraSequentialAndParallel() {
+        SplittableRandom rand = new SplittableRandom(22);
+        for (int round = 0; round < 30; round++) {
+            MazeGrid maze = SolverChecks.maze(1 + rand.nextInt(30), 1 + rand.nextInt(30), 0.3, rand.nextLong());
+            WeightedGraph graph = new WeightedGraph(maze);
+            Landmarks landmarks = Landmarks.compute(graph, 4);
+            for (int query = 0; query < 10; query++) {
+                int start = rand.nextInt(maze.size()), end = rand.nextInt(maze.size());
+                int expected = new DijkstraSolver().solve(graph, start, end).cost;
+                for (boolean parallel : new boolean[]{false, true}) {
+                    for (MazeSolver solver : new MazeSolver[]{
+                            BidirectionalSolver.dijkstra(parallel),
+                            BidirectionalSolver.astar(Heuristic.MANHATTAN, parallel),
+                            BidirectionalSolver.astar(landmarks, parallel)}) {
+                        String label = maze.rows + "x" + maze.cols + " " + start + "->" + end + " parallel=" + parallel;
+                        SolveResult result = solver.solve(graph, start, end);
+                        SolverChecks.assertValidPath(graph, result, start, end, label);
+                        assertEquals(expected, result.cost, label);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void startEqualsEndIsASingleCell() {
+        WeightedGraph graph = new WeightedGraph(SolverChecks.maze(5, 5, 0.3, 1));
+        SolveResult result = BidirectionalSolver.dijkstra(true).solve(graph, 7, 7);
+        assertArrayEquals(new int[]{7}, result.path);
+        assertEquals(0, result.cost);
+    }
+
+    @Test
+    void disconnectedEndIsNotFound() {
+        // Semua dinding tertutup kecuali 0-1: sel 3 tidak terjangkau
+        MazeGrid maze = new MazeGrid(2, 2);
+        maze.removeWall(0, 1);
+        WeightedGraph graph = new WeightedGraph(maze);
+        for (boolean parallel : new boolean[]{false, true}) {
+            assertFalse(BidirectionalSolver.dijkstra(parallel).solve(graph, 0, 3).found());
+        }
+    }
+}
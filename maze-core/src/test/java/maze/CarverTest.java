@@ -0,0 +1,64 @@
+package maze;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class CarverTest {
+    private static final int[][] SIZES = {{1, 1}, {1, 9}, {9, 1}, {2, 2}, {13, 17}, {40, 25}};
+
+    @Test
+    void everyCarverBuildsAPerfectMaze() {
+        for (GeneratorType type : GeneratorType.values()) {
+            for (int[] size : SIZES) {
+                for (long seed = 0; seed < 5; seed++) {
+                    MazeGrid maze = new MazeGrid(size[0], size[1]);
+                    type.create().carve(maze, new SplittableRandom(seed));
+                    String label = type + " " + size[0] + "x" + size[1] + " seed " + seed;
+                    assertEquals(maze.size(), MazeChecks.reachable(maze, 0), label);
+                    assertEquals(maze.size() - 1, MazeChecks.openWalls(maze), label);
+                    assertTrue(MazeChecks.outerWallsClosed(maze), label);
+                }
+            }
+        }
+    }
+
+    // Carver hanya boleh membuka dinding di dalam region-nya
+    @Test
+    void carversStayInsideTheirRegion() {
+        for (GeneratorType type : GeneratorType.values()) {
+            MazeGrid maze = new MazeGrid(12, 12);
+            GridRegion region = new GridRegion(maze, 3, 4, 5, 6);
+            type.create().carve(region, new SplittableRandom(7));
+            for (int cell = 0; cell < maze.size(); cell++) {
+                boolean inside = maze.row(cell) >= 3 && maze.row(cell) < 8 && maze.col(cell) >= 4 && maze.col(cell) < 10;
+                if (!inside) assertEquals(MazeGrid.ALL_WALLS, maze.walls(cell), type + " cell " + cell);
+            }
+            assertEquals(region.size() - 1, MazeChecks.openWalls(maze), type.toString());
+            assertEquals(region.size(), MazeChecks.reachable(maze, maze.index(3, 4)), type.toString());
+        }
+    }
+
+    @Test
+    void loopsKeepTheMazeConnected() {
+        for (GeneratorType type : GeneratorType.values()) {
+            MazeGrid maze = new MazeGrid(30, 30);
+            Mazes.generate(maze, type.create(), new SplittableRandom(3), 0.3, TerrainMix.DEFAULT);
+            assertEquals(maze.size(), MazeChecks.reachable(maze, 0), type.toString());
+            assertTrue(MazeChecks.openWalls(maze) > maze.size() - 1, type.toString());
+            assertTrue(MazeChecks.outerWallsClosed(maze), type.toString());
+        }
+    }
+
+    @Test
+    void sameSeedGivesSameMaze() {
+        for (GeneratorType type : GeneratorType.values()) {
+            MazeGrid a = Mazes.generate(20, 20, type.create(), new SplittableRandom(5));
+            MazeGrid b = Mazes.generate(20, 20, type.create(), new SplittableRandom(5));
+            assertArrayEquals(MazeChecks.cells(a), MazeChecks.cells(b), type.toString());
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package maze;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class CorridorTest {
+    @Test
+    void everyCellIsANodeAChainCellOrIsolated() {
+        SplittableRandom rand = new SplittableRandom(24);
+        for (int round = 0; round < 20; round++) {
+            MazeGrid maze = SolverChecks.maze(1 + rand.nextInt(20), 1 + rand.nextInt(20), round % 2 == 0 ? 0 : 0.3, rand.nextLong());
+            WeightedGraph graph = new WeightedGraph(maze);
+            CorridorGraph corridors = graph.corridors();
+            int interior = 0;
+            for (int cell = 0; cell < graph.size(); cell++) {
+                int roles = (corridors.nodeOf(cell) >= 0 ? 1 : 0) + (corridors.chainOf(cell) >= 0 ? 1 : 0)
+                        + (corridors.isIsolated(cell) ? 1 : 0);
+                assertEquals(1, roles, "cell " + cell);
+                if (corridors.chainOf(cell) >= 0) {
+                    interior++;
+                    assertEquals(2, graph.degree(cell));
+                }
+            }
+            int chained = 0;
+            for (int chain = 0; chain < corridors.chainCount(); chain++) chained += corridors.length(chain);
+            assertEquals(interior, chained);
+        }
+    }
+
+    @Test
+    void costMatchesDijkstraForAnyEndpoints() {
+        SplittableRandom rand = new SplittableRandom(25);
+        for (int round = 0; round < 30; round++) {
+            MazeGrid maze = SolverChecks.maze(1 + rand.nextInt(25), 1 + rand.nextInt(25), 0.3, rand.nextLong());
+            assertMatchesReference(new WeightedGraph(maze), rand, 20);
+        }
+    }
+
+    // Start dan end di koridor yang sama, di kedua arah, termasuk bersebelahan
+    @Test
+    void endpointsInsideOneCorridor() {
+        MazeGrid maze = SolverChecks.maze(1, 30, 0, 3);
+        WeightedGraph graph = new WeightedGraph(maze);
+        CorridorSolver solver = new CorridorSolver();
+        for (int[] query : new int[][]{{3, 20}, {20, 3}, {10, 11}, {11, 10}, {0, 29}, {29, 5}}) {
+            SolveResult result = solver.solve(graph, query[0], query[1]);
+            String label = query[0] + "->" + query[1];
+            SolverChecks.assertValidPath(graph, result, query[0], query[1], label);
+            assertEquals(SolverChecks.referenceCost(graph, query[0], query[1]), result.cost, label);
+        }
+    }
+
+    // Siklus tanpa persimpangan: semua sel berderajat 2, satu sel dijadikan node
+    @Test
+    void pureCycleIsSolved() {
+        MazeGrid maze = new MazeGrid(3, 3);
+        int[] ring = {0, 1, 2, 5, 8, 7, 6, 3};
+        for (int i = 0; i < ring.length; i++) maze.removeWall(ring[i], ring[(i + 1) % ring.length]);
+        WeightedGraph graph = new WeightedGraph(maze);
+        assertTrue(graph.corridors().isIsolated(4));
+        for (int start : ring) {
+            for (int end : ring) {
+                SolveResult result = new CorridorSolver().solve(graph, start, end);
+                SolverChecks.assertValidPath(graph, result, start, end, start + "->" + end);
+                assertEquals(SolverChecks.referenceCost(graph, start, end), result.cost);
+            }
+            assertFalse(new CorridorSolver().solve(graph, start, 4).found());
+        }
+    }
+
+    // Koridor lebih panjang dari ring BucketQueue: solver harus pindah ke heap
+    @Test
+    void longCorridorsUseTheHeap() {
+        MazeGrid maze = SolverChecks.maze(2, 1500, 0, 8);
+        WeightedGraph pruned = new WeightedGraph(maze).without(maze.deadEnds(0, maze.size() - 1));
+        assertTrue(pruned.corridors().maxEdgeCost() > 1 << 10);
+        SolveResult result = new CorridorSolver().solve(pruned, 0, maze.size() - 1);
+        SolverChecks.assertValidPath(pruned, result, 0, maze.size() - 1, "2x1500");
+        assertEquals(SolverChecks.referenceCost(new WeightedGraph(maze), 0, maze.size() - 1), result.cost);
+    }
+
+    @Test
+    void prunedGraphsMatchDijkstra() {
+        SplittableRandom rand = new SplittableRandom(26);
+        for (int round = 0; round < 20; round++) {
+            MazeGrid maze = SolverChecks.maze(2 + rand.nextInt(30), 2 + rand.nextInt(30), round % 2 == 0 ? 0 : 0.3, rand.nextLong());
+            int start = rand.nextInt(maze.size()), end = rand.nextInt(maze.size());
+            WeightedGraph graph = new WeightedGraph(maze);
+            WeightedGraph pruned = graph.without(maze.deadEnds(start, end));
+            SolveResult result = new CorridorSolver().solve(pruned, start, end);
+            SolverChecks.assertValidPath(graph, result, start, end, start + "->" + end);
+            assertEquals(SolverChecks.referenceCost(graph, start, end), result.cost);
+        }
+    }
+
+    private static void assertMatchesReference(WeightedGraph graph, SplittableRandom rand, int queries) {
+        CorridorSolver solver = new CorridorSolver();
+        for (int query = 0; query < queries; query++) {
+            int start = rand.nextInt(graph.size()), end = rand.nextInt(graph.size());
+            String label = graph.rows + "x" + graph.cols + " " + start + "->" + end;
+            SolveResult result = solver.solve(graph, start, end);
+            SolverChecks.assertValidPath(graph, result, start, end, label);
+            assertEquals(SolverChecks.referenceCost(graph, start, end), result.cost, label);
+        }
+    }
+}
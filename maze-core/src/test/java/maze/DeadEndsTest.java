@@ -0,0 +1,118 @@
+package maze;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class DeadEndsTest {
+    @Test
+    void perfectMazeKeepsOnlyTheRoute() {
+        // Tanpa loop: sel yang tersisa persis jalur start -> end
+        MazeGrid perfect = new MazeGrid(30, 40);
+        Mazes.generate(perfect, new PrimCarver(), new SplittableRandom(3), 0, TerrainMix.DEFAULT);
+        int end = perfect.size() - 1;
+        DeadEnds deadEnds = perfect.deadEnds(0, end);
+        SolveResult route = new BFSSolver().solve(new WeightedGraph(perfect), 0, end);
+        assertEquals(perfect.size() - route.path.length, deadEnds.filledCount());
+        for (int cell : route.path) assertFalse(deadEnds.isFilled(cell));
+    }
+
+    @Test
+    void terminalsAreNeverFilled() {
+        MazeGrid maze = new MazeGrid(4, 4);
+        DeadEnds deadEnds = maze.deadEnds(5, 5);
+        assertFalse(deadEnds.isFilled(5));
+        assertEquals(15, deadEnds.filledCount());
+        maze.removeWall(5, 6);
+        assertSameAsFresh(maze, deadEnds);
+        assertTrue(deadEnds.isFilled(6));
+    }
+
+    @Test
+    void incrementalMatchesRecomputeOnGeneratedMazes() {
+        SplittableRandom rand = new SplittableRandom(11);
+        for (int round = 0; round < 60; round++) {
+            MazeGrid maze = new MazeGrid(2 + rand.nextInt(12), 2 + rand.nextInt(12));
+            Mazes.generate(maze, GeneratorType.values()[round % 4].create(), rand.split(), 0, TerrainMix.DEFAULT);
+            openRandomWalls(maze, rand, rand.nextInt(maze.size()), rand.nextInt(maze.size()));
+        }
+    }
+
+    // Grid yang dimulai dengan semua dinding tertutup: banyak komponen terputus tanpa sel hidup,
+    // jadi removeWall melewati jalur kupas-ulang komponen
+    @Test
+    void incrementalMatchesRecomputeOnDisconnectedGrids() {
+        SplittableRandom rand = new SplittableRandom(12);
+        for (int round = 0; round < 60; round++) {
+            MazeGrid maze = new MazeGrid(1 + rand.nextInt(10), 1 + rand.nextInt(10));
+            int start = rand.nextInt(maze.size());
+            int end = round % 5 == 0 ? start : rand.nextInt(maze.size());
+            openRandomWalls(maze, rand, start, end);
+        }
+    }
+
+    @Test
+    void cacheIsReplacedForOtherTerminalsAndDroppedOnReset() {
+        MazeGrid maze = Mazes.generate(6, 6, new KruskalCarver(), new SplittableRandom(1));
+        DeadEnds deadEnds = maze.deadEnds(0, 35);
+        assertSame(deadEnds, maze.deadEnds(0, 35));
+        assertNotSame(deadEnds, maze.deadEnds(0, 34));
+        DeadEnds other = maze.deadEnds(0, 34);
+        maze.reset();
+        assertNotSame(other, maze.deadEnds(0, 34));
+    }
+
+    @Test
+    void prunedGraphKeepsShortestCost() {
+        SplittableRandom rand = new SplittableRandom(13);
+        for (int round = 0; round < 40; round++) {
+            MazeGrid maze = new MazeGrid(3 + rand.nextInt(20), 3 + rand.nextInt(20));
+            Mazes.generate(maze, GeneratorType.values()[round % 4].create(), rand.split(),
+                    round % 2 == 0 ? 0 : 0.3, TerrainMix.DEFAULT);
+            int start = rand.nextInt(maze.size()), end = rand.nextInt(maze.size());
+            WeightedGraph graph = new WeightedGraph(maze);
+            DeadEnds deadEnds = maze.deadEnds(start, end);
+            WeightedGraph pruned = graph.without(deadEnds);
+            assertSame(graph, pruned.unpruned());
+
+            int expected = new DijkstraSolver().solve(graph, start, end).cost;
+            for (SolverType type : SolverType.values()) {
+                SolveResult result = type.create(Landmarks.compute(graph, 4)).solve(pruned, start, end);
+                assertTrue(result.found(), type.label);
+                for (int cell : result.path) assertFalse(deadEnds.isFilled(cell), type.label);
+                if (type != SolverType.BFS && type != SolverType.DFS) assertEquals(expected, result.cost, type.label);
+            }
+        }
+    }
+
+    private static void openRandomWalls(MazeGrid maze, SplittableRandom rand, int start, int end) {
+        DeadEnds deadEnds = maze.deadEnds(start, end);
+        assertSameAsFresh(maze, deadEnds);
+        for (int step = 0; step < 3 * maze.size(); step++) {
+            int cell = rand.nextInt(maze.size());
+            boolean right = rand.nextBoolean();
+            int other;
+            if (right && maze.col(cell) < maze.cols - 1) other = cell + 1;
+            else if (!right && maze.row(cell) < maze.rows - 1) other = cell + maze.cols;
+            else continue;
+            // Urutan argumen dan dinding yang sudah terbuka juga harus aman
+            if (rand.nextBoolean()) maze.removeWall(cell, other);
+            else maze.removeWall(other, cell);
+            assertSame(deadEnds, maze.deadEnds(start, end));
+            assertSameAsFresh(maze, deadEnds);
+        }
+    }
+
+    private static void assertSameAsFresh(MazeGrid maze, DeadEnds deadEnds) {
+        DeadEnds fresh = new DeadEnds(maze, deadEnds.start, deadEnds.end);
+        for (int cell = 0; cell < maze.size(); cell++) {
+            assertEquals(fresh.isFilled(cell), deadEnds.isFilled(cell), "cell " + cell);
+        }
+        assertEquals(fresh.filledCount(), deadEnds.filledCount());
+    }
+}
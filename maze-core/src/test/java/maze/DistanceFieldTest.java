@@ -0,0 +1,59 @@
+package maze;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class DistanceFieldTest {
+    @Test
+    void everyCellDescendsAlongAShortestPath() {
+        SplittableRandom rand = new SplittableRandom(21);
+        for (int round = 0; round < 15; round++) {
+            MazeGrid maze = SolverChecks.maze(1 + rand.nextInt(20), 1 + rand.nextInt(20), 0.3, rand.nextLong());
+            WeightedGraph graph = new WeightedGraph(maze);
+            int target = rand.nextInt(graph.size());
+            DistanceField field = DistanceField.compute(graph, target);
+            for (int start = 0; start < graph.size(); start++) {
+                String label = maze.rows + "x" + maze.cols + " " + start + "->" + target;
+                int expected = SolverChecks.referenceCost(graph, start, target);
+                assertEquals(expected, field.distance(start), label);
+                SolveResult result = field.path(start);
+                SolverChecks.assertValidPath(graph, result, start, target, label);
+                assertEquals(expected, result.cost, label);
+            }
+            assertArrayEquals(new int[]{target}, field.path(target).path);
+            assertEquals(-1, field.nextStep(target));
+        }
+    }
+
+    @Test
+    void unreachableCellsHaveNoPath() {
+        MazeGrid maze = new MazeGrid(2, 2);
+        maze.removeWall(0, 1);
+        DistanceField field = DistanceField.compute(new WeightedGraph(maze), 0);
+        assertFalse(field.isReachable(3));
+        assertEquals(DistanceField.UNREACHABLE, field.distance(3));
+        assertEquals(-1, field.nextStep(3));
+        assertFalse(field.path(3).found());
+    }
+
+    @Test
+    void cacheIsRebuiltWhenTheMazeOrTargetChanges() {
+        MazeGrid maze = SolverChecks.maze(8, 8, 0, 5);
+        DistanceFieldCache cache = new DistanceFieldCache();
+        DistanceField field = cache.get(maze, new WeightedGraph(maze), 63);
+        assertSame(field, cache.get(maze, null, 63));
+        assertNotSame(field, cache.get(maze, null, 62));
+
+        field = cache.get(maze, null, 63);
+        maze.setTerrain(10, Terrain.LAVA);
+        DistanceField rebuilt = cache.get(maze, field.graph, 63);
+        assertNotSame(field, rebuilt);
+        assertEquals(SolverChecks.referenceCost(new WeightedGraph(maze), 0, 63), rebuilt.distance(0));
+    }
+}
@@ -0,0 +1,78 @@
+package maze;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class EllerGeneratorTest {
+    @Test
+    void streamedRowsFormAPerfectMaze() {
+        for (int[] size : new int[][]{{1, 1}, {1, 12}, {12, 1}, {50, 7}, {7, 50}}) {
+            for (long seed = 0; seed < 5; seed++) {
+                MazeGrid maze = stream(size[0], size[1], 0, seed);
+                String label = size[0] + "x" + size[1] + " seed " + seed;
+                assertEquals(maze.size(), MazeChecks.reachable(maze, 0), label);
+                assertEquals(maze.size() - 1, MazeChecks.openWalls(maze), label);
+                assertTrue(MazeChecks.outerWallsClosed(maze), label);
+            }
+        }
+    }
+
+    @Test
+    void loopsKeepTheMazeConnected() {
+        MazeGrid maze = stream(60, 40, 0.3, 1);
+        assertEquals(maze.size(), MazeChecks.reachable(maze, 0));
+        assertTrue(MazeChecks.openWalls(maze) > maze.size() - 1);
+        assertTrue(MazeChecks.outerWallsClosed(maze));
+    }
+
+    // Baris dikirim berurutan dan buffer-nya boleh dipakai ulang, jadi sink harus menyalin
+    @Test
+    void rowsArriveInOrderAndCornersAreStone() {
+        int[] next = {0};
+        new EllerGenerator(30, 8, 0.3, TerrainMix.DEFAULT).generate(new SplittableRandom(2), (row, cells) -> {
+            assertEquals(next[0]++, row);
+            assertEquals(8, cells.length);
+        });
+        assertEquals(30, next[0]);
+
+        MazeGrid maze = stream(30, 8, 0.3, 2);
+        assertEquals(Terrain.STONE, maze.terrain(0));
+        assertEquals(Terrain.STONE, maze.terrain(maze.size() - 1));
+    }
+
+    @Test
+    void rowsUseTheGivenTerrainMix() {
+        MazeGrid lava = new MazeGrid(20, 20);
+        new EllerGenerator(20, 20, 0.3, TerrainMix.parse("0,0,0,1")).generate(new SplittableRandom(3), lava::setRow);
+        for (int cell = 1; cell < lava.size() - 1; cell++) assertEquals(Terrain.LAVA, lava.terrain(cell));
+        assertEquals(Terrain.STONE, lava.terrain(0));
+        assertEquals(Terrain.STONE, lava.terrain(lava.size() - 1));
+
+        // Tanpa mix hanya dinding yang ditulis
+        MazeGrid walls = new MazeGrid(20, 20);
+        new EllerGenerator(20, 20, 0.3, null).generate(new SplittableRandom(3), walls::setRow);
+        for (int cell = 0; cell < walls.size(); cell++) assertEquals(Terrain.STONE, walls.terrain(cell));
+    }
+
+    @Test
+    void mazeFileRoundTripsAStreamedMaze() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (MazeFile.Writer writer = new MazeFile.Writer(bytes, 25, 33)) {
+            new EllerGenerator(25, 33, 0.3, TerrainMix.DEFAULT).generate(new SplittableRandom(4), writer);
+        }
+        MazeGrid read = MazeFile.read(new ByteArrayInputStream(bytes.toByteArray()));
+        assertArrayEquals(MazeChecks.cells(stream(25, 33, 0.3, 4)), MazeChecks.cells(read));
+    }
+
+    private static MazeGrid stream(int rows, int cols, double loopRatio, long seed) {
+        MazeGrid maze = new MazeGrid(rows, cols);
+        new EllerGenerator(rows, cols, loopRatio, TerrainMix.DEFAULT).generate(new SplittableRandom(seed), maze::setRow);
+        return maze;
+    }
+}
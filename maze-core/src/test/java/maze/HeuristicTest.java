@@ -0,0 +1,85 @@
+package maze;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class HeuristicTest {
+    @Test
+    void estimatesAreAdmissibleAndConsistent() {
+        SplittableRandom rand = new SplittableRandom(23);
+        for (int round = 0; round < 12; round++) {
+            MazeGrid maze = SolverChecks.maze(1 + rand.nextInt(12), 1 + rand.nextInt(12), 0.3, rand.nextLong());
+            WeightedGraph graph = new WeightedGraph(maze);
+            for (Heuristic heuristic : new Heuristic[]{Heuristic.MANHATTAN, Landmarks.compute(graph, 8)}) {
+                for (int to = 0; to < graph.size(); to++) {
+                    DistanceField field = DistanceField.compute(graph, to);
+                    for (int from = 0; from < graph.size(); from++) {
+                        int h = heuristic.estimate(graph, from, to);
+                        String label = maze.rows + "x" + maze.cols + " " + from + "->" + to;
+                        assertTrue(h >= 0 && h <= field.distance(from), label + " h=" + h);
+                        // Konsisten: h(u) <= w(v) + h(v) untuk setiap edge u -> v
+                        for (int e = graph.firstEdge(from), last = graph.endEdge(from); e < last; e++) {
+                            int next = graph.target(e);
+                            assertTrue(h <= graph.weight(next) + heuristic.estimate(graph, next, to), label);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    // Landmark di komponen lain dilewati, jadi estimasi tetap batas bawah
+    @Test
+    void landmarksStayAdmissibleOnDisconnectedGrids() {
+        MazeGrid maze = closeColumn(SolverChecks.maze(8, 8, 0.3, 4), 3);
+        assertTrue(MazeChecks.reachable(maze, 0) <= 32);
+        WeightedGraph graph = new WeightedGraph(maze);
+        Landmarks landmarks = Landmarks.compute(graph, 8);
+        for (int from = 0; from < graph.size(); from++) {
+            for (int to = 0; to < graph.size(); to++) {
+                int cost = SolverChecks.referenceCost(graph, from, to);
+                if (cost >= 0) assertTrue(landmarks.estimate(graph, from, to) <= cost, from + "->" + to);
+            }
+        }
+    }
+
+    @Test
+    void landmarksOnThinGridsAreDistinctPerimeterCells() {
+        WeightedGraph graph = new WeightedGraph(SolverChecks.maze(1, 5, 0, 1));
+        Landmarks landmarks = Landmarks.compute(graph, 8);
+        assertTrue(landmarks.count() <= 5);
+        for (int i = 1; i < landmarks.count(); i++) assertTrue(landmarks.cell(i) != landmarks.cell(i - 1));
+        assertEquals(1, Landmarks.compute(new WeightedGraph(new MazeGrid(1, 1)), 8).count());
+    }
+
+    @Test
+    void landmarksAcceptOnlyTheirGraphOrItsPrunedView() {
+        MazeGrid maze = SolverChecks.maze(10, 10, 0.3, 6);
+        WeightedGraph graph = new WeightedGraph(maze);
+        Landmarks landmarks = Landmarks.compute(graph, 4);
+        WeightedGraph pruned = graph.without(maze.deadEnds(0, 99));
+        assertDoesNotThrow(() -> landmarks.estimate(pruned, 0, 99));
+        WeightedGraph other = new WeightedGraph(maze);
+        assertThrows(IllegalArgumentException.class, () -> landmarks.estimate(other, 0, 99));
+    }
+
+    // Salinan maze dengan semua dinding antara kolom col dan col + 1 tertutup
+    private static MazeGrid closeColumn(MazeGrid maze, int col) {
+        MazeGrid copy = new MazeGrid(maze.rows, maze.cols);
+        for (int cell = 0; cell < maze.size(); cell++) {
+            copy.setTerrain(cell, maze.terrain(cell));
+            if (maze.col(cell) < maze.cols - 1 && maze.col(cell) != col && !maze.hasWall(cell, MazeGrid.RIGHT)) {
+                copy.removeWall(cell, cell + 1);
+            }
+            if (maze.row(cell) < maze.rows - 1 && !maze.hasWall(cell, MazeGrid.BOTTOM)) {
+                copy.removeWall(cell, cell + maze.cols);
+            }
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,59 @@
+package maze;
+
+// Pengecekan struktur maze untuk test generator
+final class MazeChecks {
+    private MazeChecks() {
+    }
+
+    // Jumlah sel yang terjangkau dari from lewat dinding terbuka
+    static int reachable(MazeGrid maze, int from) {
+        WeightedGraph graph = new WeightedGraph(maze);
+        boolean[] seen = new boolean[maze.size()];
+        int[] stack = new int[maze.size()];
+        int top = 0, count = 0;
+        stack[top++] = from;
+        seen[from] = true;
+        while (top > 0) {
+            int cell = stack[--top];
+            count++;
+            for (int e = graph.firstEdge(cell), last = graph.endEdge(cell); e < last; e++) {
+                int next = graph.target(e);
+                if (!seen[next]) {
+                    seen[next] = true;
+                    stack[top++] = next;
+                }
+            }
+        }
+        return count;
+    }
+
+    // Dinding dalam yang terbuka; maze sempurna punya tepat size - 1
+    static int openWalls(MazeGrid maze) {
+        int open = 0;
+        for (int cell = 0; cell < maze.size(); cell++) {
+            if (maze.col(cell) < maze.cols - 1 && !maze.hasWall(cell, MazeGrid.RIGHT)) open++;
+            if (maze.row(cell) < maze.rows - 1 && !maze.hasWall(cell, MazeGrid.BOTTOM)) open++;
+        }
+        return open;
+    }
+
+    // Dinding di tepi luar harus tetap tertutup
+    static boolean outerWallsClosed(MazeGrid maze) {
+        for (int cell = 0; cell < maze.size(); cell++) {
+            if (maze.row(cell) == 0 && !maze.hasWall(cell, MazeGrid.TOP)) return false;
+            if (maze.row(cell) == maze.rows - 1 && !maze.hasWall(cell, MazeGrid.BOTTOM)) return false;
+            if (maze.col(cell) == 0 && !maze.hasWall(cell, MazeGrid.LEFT)) return false;
+            if (maze.col(cell) == maze.cols - 1 && !maze.hasWall(cell, MazeGrid.RIGHT)) return false;
+        }
+        return true;
+    }
+
+    // Dinding dan terrain per sel, untuk membandingkan dua maze
+    static byte[] cells(MazeGrid maze) {
+        byte[] cells = new byte[maze.size()];
+        for (int cell = 0; cell < cells.length; cell++) {
+            cells[cell] = MazeGrid.pack(maze.walls(cell), maze.terrain(cell));
+        }
+        return cells;
+    }
+}
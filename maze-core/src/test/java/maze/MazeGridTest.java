@@ -0,0 +1,93 @@
+package maze;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class MazeGridTest {
+    @Test
+    void removeWallOpensBothSidesInEveryDirection() {
+        MazeGrid maze = new MazeGrid(3, 3);
+        maze.removeWall(4, 5);
+        maze.removeWall(4, 3);
+        maze.removeWall(4, 7);
+        maze.removeWall(4, 1);
+        assertEquals(0, maze.walls(4));
+        assertFalse(maze.hasWall(5, MazeGrid.LEFT));
+        assertFalse(maze.hasWall(3, MazeGrid.RIGHT));
+        assertFalse(maze.hasWall(7, MazeGrid.TOP));
+        assertFalse(maze.hasWall(1, MazeGrid.BOTTOM));
+    }
+
+    // Dengan satu kolom, sel di bawah a adalah a + 1: harus membuka BOTTOM/TOP, bukan RIGHT/LEFT
+    @Test
+    void singleColumnOpensVerticalWalls() {
+        MazeGrid maze = new MazeGrid(3, 1);
+        maze.removeWall(0, 1);
+        maze.removeWall(2, 1);
+        assertFalse(maze.hasWall(0, MazeGrid.BOTTOM));
+        assertFalse(maze.hasWall(1, MazeGrid.TOP));
+        assertFalse(maze.hasWall(1, MazeGrid.BOTTOM));
+        assertFalse(maze.hasWall(2, MazeGrid.TOP));
+        assertTrue(maze.hasWall(1, MazeGrid.RIGHT));
+        assertTrue(maze.hasWall(1, MazeGrid.LEFT));
+    }
+
+    @Test
+    void singleRowOpensHorizontalWalls() {
+        MazeGrid maze = new MazeGrid(1, 3);
+        maze.removeWall(1, 0);
+        maze.removeWall(1, 2);
+        assertEquals(MazeGrid.TOP | MazeGrid.BOTTOM, maze.walls(1));
+    }
+
+    @Test
+    void removeWallRejectsCellsThatOnlyLookAdjacent() {
+        MazeGrid maze = new MazeGrid(2, 3);
+        // 2 dan 3 berurutan tapi di baris berbeda
+        assertThrows(IllegalArgumentException.class, () -> maze.removeWall(2, 3));
+        assertThrows(IllegalArgumentException.class, () -> maze.removeWall(0, 4));
+    }
+
+    @Test
+    void thinGridsAreSolvableWithEveryGenerator() {
+        for (GeneratorType type : GeneratorType.values()) {
+            for (int[] size : new int[][]{{5, 1}, {1, 5}, {1, 1}}) {
+                MazeGrid maze = Mazes.generate(size[0], size[1], type.create(), new SplittableRandom(1));
+                SolveResult result = new DijkstraSolver().solve(new WeightedGraph(maze), 0, maze.size() - 1);
+                assertTrue(result.found(), type + " " + size[0] + "x" + size[1]);
+                assertEquals(size[0] * size[1] == 1 ? 1 : size[0] + size[1] - 1, result.path.length,
+                        type + " " + size[0] + "x" + size[1]);
+            }
+        }
+    }
+
+    @Test
+    void versionChangesOnEveryWallOrTerrainEdit() {
+        MazeGrid maze = new MazeGrid(2, 2);
+        int version = maze.version();
+        maze.removeWall(0, 1);
+        assertTrue(maze.version() > version);
+        version = maze.version();
+        maze.setTerrain(0, Terrain.GRASS);
+        assertTrue(maze.version() > version);
+    }
+
+    // reset() jalan di thread generator; marks hanya dibersihkan EDT lewat clearMarks()
+    @Test
+    void resetLeavesMarksToClearMarks() {
+        MazeGrid maze = new MazeGrid(2, 2);
+        maze.setVisited(1);
+        maze.setPath(2);
+        maze.reset();
+        assertTrue(maze.isVisited(1));
+        assertTrue(maze.isPath(2));
+        maze.clearMarks();
+        assertFalse(maze.isVisited(1));
+        assertFalse(maze.isPath(2));
+    }
+}
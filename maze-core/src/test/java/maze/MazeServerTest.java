@@ -0,0 +1,58 @@
+package maze;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MazeServerTest {
+    private final HttpClient client = HttpClient.newHttpClient();
+    private MazeServer server;
+
+    @BeforeEach
+    void start() throws IOException {
+        server = new MazeServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 4, 1);
+        server.start();
+    }
+
+    @AfterEach
+    void stop() {
+        server.stop();
+    }
+
+    @Test
+    void oversizedMazeIsRejected() throws Exception {
+        assertEquals(400, send("POST", "/mazes?rows=5000&cols=5000").statusCode());
+        // rows * cols melewati int
+        assertEquals(400, send("POST", "/mazes?rows=65536&cols=65536").statusCode());
+        assertEquals(200, send("POST", "/mazes?rows=10&cols=10&seed=1").statusCode());
+    }
+
+    @Test
+    void unknownMethodsShareOneHistogramPerRoute() throws Exception {
+        assertEquals(405, send("FOO", "/mazes").statusCode());
+        assertEquals(405, send("BAR", "/mazes").statusCode());
+        send("POST", "/mazes?rows=4&cols=4&seed=1");
+        String stats = send("GET", "/stats").body();
+        assertTrue(stats.contains("\"OTHER /mazes\""), stats);
+        assertTrue(stats.contains("\"POST /mazes\""), stats);
+        assertFalse(stats.contains("FOO"), stats);
+        assertFalse(stats.contains("BAR"), stats);
+    }
+
+    private HttpResponse<String> send(String method, String path) throws Exception {
+        URI uri = URI.create("http://" + server.address().getHostString() + ":" + server.address().getPort() + path);
+        HttpRequest request = HttpRequest.newBuilder(uri).method(method, HttpRequest.BodyPublishers.noBody()).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,97 @@
+package maze;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class PriorityQueueTest {
+    // Pola Dijkstra: push selalu di [prioritas terakhir yang di-pop, + maxStep]
+    @Test
+    void bothQueuesPopInPriorityOrder() {
+        SplittableRandom rand = new SplittableRandom(4);
+        for (QueueType type : QueueType.values()) {
+            for (int maxStep : new int[]{0, 1, 10, 100}) {
+                IntPriorityQueue queue = type.create(maxStep);
+                PriorityQueue<long[]> expected = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+                int current = 0;
+                for (int step = 0; step < 5000; step++) {
+                    if (expected.isEmpty() || rand.nextInt(3) > 0) {
+                        int priority = current + rand.nextInt(maxStep + 1);
+                        int cell = rand.nextInt(1 << 20);
+                        queue.push(cell, priority);
+                        expected.add(new long[]{priority, cell});
+                    } else {
+                        long[] top = expected.poll();
+                        assertEquals(top[0], queue.peekPriority(), type + " maxStep " + maxStep);
+                        int cell = queue.pop();
+                        current = (int) top[0];
+                        // Urutan sel berprioritas sama bebas; cukup sel itu memang punya prioritas ini
+                        if (cell != top[1]) assertTrue(removeEntry(expected, top, cell), type + " cell " + cell);
+                    }
+                    assertEquals(expected.isEmpty(), queue.isEmpty());
+                }
+            }
+        }
+    }
+
+    @Test
+    void clearEmptiesTheQueue() {
+        for (QueueType type : QueueType.values()) {
+            IntPriorityQueue queue = type.create(10);
+            queue.push(1, 5);
+            queue.push(2, 9);
+            queue.clear();
+            assertTrue(queue.isEmpty());
+            // Setelah clear prioritas boleh mulai lagi dari nol
+            queue.push(3, 0);
+            assertFalse(queue.isEmpty());
+            assertEquals(0, queue.peekPriority());
+            assertEquals(3, queue.pop());
+        }
+    }
+
+    @Test
+    void zeroWeightPushLandsInTheCurrentBucket() {
+        BucketQueue queue = new BucketQueue(10);
+        queue.push(1, 4);
+        queue.push(2, 7);
+        assertEquals(1, queue.pop());
+        queue.push(3, 4);
+        assertEquals(4, queue.peekPriority());
+        assertEquals(3, queue.pop());
+        assertEquals(2, queue.pop());
+    }
+
+    @Test
+    void emptyBucketQueueRestartsAtAnyPriority() {
+        BucketQueue queue = new BucketQueue(3);
+        queue.push(1, 100);
+        assertEquals(1, queue.pop());
+        queue.push(2, 5);
+        assertEquals(5, queue.peekPriority());
+        assertEquals(2, queue.pop());
+    }
+
+    @Test
+    void bucketQueueRejectsStepsBeyondItsRange() {
+        BucketQueue queue = new BucketQueue(3);
+        queue.push(1, 0);
+        assertThrows(IllegalArgumentException.class, () -> queue.push(2, 100));
+    }
+
+    private static boolean removeEntry(PriorityQueue<long[]> queue, long[] polled, int cell) {
+        for (long[] entry : queue) {
+            if (entry[0] == polled[0] && entry[1] == cell) {
+                queue.remove(entry);
+                queue.add(polled);
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,63 @@
+package maze;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+
+// Pengecekan bersama untuk test solver: jalur harus lewat dinding terbuka dan cost-nya sesuai
+final class SolverChecks {
+    private SolverChecks() {
+    }
+
+    static MazeGrid maze(int rows, int cols, double loopRatio, long seed) {
+        MazeGrid maze = new MazeGrid(rows, cols);
+        Mazes.generate(maze, new PrimCarver(), new SplittableRandom(seed), loopRatio, TerrainMix.DEFAULT);
+        return maze;
+    }
+
+    static void assertValidPath(WeightedGraph graph, SolveResult result, int start, int end, String label) {
+        assertTrue(result.found(), label);
+        assertEquals(start, result.path[0], label);
+        assertEquals(end, result.path[result.path.length - 1], label);
+        int cost = 0;
+        for (int i = 1; i < result.path.length; i++) {
+            assertTrue(isEdge(graph, result.path[i - 1], result.path[i]), label + " step " + i);
+            cost += graph.weight(result.path[i]);
+        }
+        assertEquals(cost, result.cost, label);
+    }
+
+    // Dijkstra lugas dengan java.util.PriorityQueue sebagai pembanding; -1 kalau tidak terjangkau
+    static int referenceCost(WeightedGraph graph, int start, int end) {
+        int[] dist = new int[graph.size()];
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        dist[start] = 0;
+        PriorityQueue<int[]> queue = new PriorityQueue<>((a, b) -> Integer.compare(a[0], b[0]));
+        queue.add(new int[]{0, start});
+        while (!queue.isEmpty()) {
+            int[] top = queue.poll();
+            int cell = top[1];
+            if (top[0] > dist[cell]) continue;
+            if (cell == end) return top[0];
+            for (int e = graph.firstEdge(cell), last = graph.endEdge(cell); e < last; e++) {
+                int next = graph.target(e);
+                int cost = top[0] + graph.weight(next);
+                if (cost < dist[next]) {
+                    dist[next] = cost;
+                    queue.add(new int[]{cost, next});
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isEdge(WeightedGraph graph, int from, int to) {
+        for (int e = graph.firstEdge(from), last = graph.endEdge(from); e < last; e++) {
+            if (graph.target(e) == to) return true;
+        }
+        return false;
+    }
+}
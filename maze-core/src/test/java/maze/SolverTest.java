@@ -0,0 +1,67 @@
+package maze;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class SolverTest {
+    @Test
+    void everySolverFindsAValidPathAndWeightedOnesMatchDijkstra() {
+        SplittableRandom rand = new SplittableRandom(1);
+        for (int round = 0; round < 40; round++) {
+            int rows = round % 4 == 0 ? 1 : 1 + rand.nextInt(25);
+            int cols = round % 4 == 1 ? 1 : 1 + rand.nextInt(25);
+            MazeGrid maze = SolverChecks.maze(rows, cols, round % 2 == 0 ? 0 : 0.3, rand.nextLong());
+            WeightedGraph graph = new WeightedGraph(maze);
+            Landmarks landmarks = Landmarks.compute(graph, 4);
+            for (int query = 0; query < 8; query++) {
+                int start = rand.nextInt(maze.size()), end = rand.nextInt(maze.size());
+                int expected = SolverChecks.referenceCost(graph, start, end);
+                for (SolverType type : SolverType.values()) {
+                    for (Heuristic heuristic : new Heuristic[]{Heuristic.MANHATTAN, landmarks}) {
+                        String label = type.label + " " + rows + "x" + cols + " " + start + "->" + end;
+                        SolveResult result = type.create(heuristic).solve(graph, start, end);
+                        SolverChecks.assertValidPath(graph, result, start, end, label);
+                        if (type != SolverType.BFS && type != SolverType.DFS) assertEquals(expected, result.cost, label);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void perfectMazeGivesEverySolverTheSamePath() {
+        // Tanpa loop jalur sederhananya unik, termasuk untuk DFS
+        MazeGrid maze = SolverChecks.maze(20, 20, 0, 9);
+        WeightedGraph graph = new WeightedGraph(maze);
+        int[] expected = new BFSSolver().solve(graph, 0, maze.size() - 1).path;
+        for (SolverType type : SolverType.values()) {
+            assertArrayEquals(expected, type.create().solve(graph, 0, maze.size() - 1).path, type.label);
+        }
+    }
+
+    @Test
+    void startEqualsEndIsASingleCell() {
+        WeightedGraph graph = new WeightedGraph(SolverChecks.maze(6, 6, 0.3, 2));
+        for (SolverType type : SolverType.values()) {
+            SolveResult result = type.create().solve(graph, 14, 14);
+            assertArrayEquals(new int[]{14}, result.path, type.label);
+            assertEquals(0, result.cost, type.label);
+        }
+    }
+
+    @Test
+    void unreachableEndIsNotFound() {
+        MazeGrid maze = new MazeGrid(3, 3);
+        maze.removeWall(0, 1);
+        maze.removeWall(1, 2);
+        WeightedGraph graph = new WeightedGraph(maze);
+        for (SolverType type : SolverType.values()) {
+            assertFalse(type.create().solve(graph, 0, 8).found(), type.label);
+            assertFalse(type.create().solve(graph, 4, 0).found(), type.label);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package maze;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class TiledGeneratorTest {
+    @Test
+    void stitchedTilesAreConnectedAndPerfectWithoutLoops() {
+        for (GeneratorType type : GeneratorType.values()) {
+            // Ukuran yang tidak habis dibagi tile, supaya tile pinggir lebih kecil
+            MazeGrid maze = new TiledGenerator(type.create(), 16, 0, TerrainMix.DEFAULT, ForkJoinPool.commonPool())
+                    .generate(37, 45, 7);
+            assertEquals(maze.size(), MazeChecks.reachable(maze, 0), type.toString());
+            assertEquals(maze.size() - 1, MazeChecks.openWalls(maze), type.toString());
+            assertTrue(MazeChecks.outerWallsClosed(maze), type.toString());
+        }
+    }
+
+    @Test
+    void sameSeedGivesSameMazeOnAnyPool() {
+        TiledGenerator common = new TiledGenerator(new PrimCarver(), 16, 0.3, TerrainMix.DEFAULT, ForkJoinPool.commonPool());
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            TiledGenerator sequential = new TiledGenerator(new PrimCarver(), 16, 0.3, TerrainMix.DEFAULT, single);
+            assertArrayEquals(MazeChecks.cells(common.generate(50, 50, 42)),
+                    MazeChecks.cells(sequential.generate(50, 50, 42)));
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    @Test
+    void tilesUseTheGivenTerrainMix() {
+        MazeGrid maze = new TiledGenerator(new KruskalCarver(), 0.3, TerrainMix.parse("0,0,0,1")).generate(40, 40, 3);
+        for (int cell = 1; cell < maze.size() - 1; cell++) assertEquals(Terrain.LAVA, maze.terrain(cell));
+        assertEquals(Terrain.STONE, maze.terrain(0));
+        assertEquals(Terrain.STONE, maze.terrain(maze.size() - 1));
+    }
+
+    @Test
+    void versionIsBumpedOnceAndDeadEndsAreRecomputed() {
+        MazeGrid maze = new MazeGrid(20, 20);
+        DeadEnds before = maze.deadEnds(0, maze.size() - 1);
+        int version = maze.version();
+        new TiledGenerator(new PrimCarver(), 8, 0.3, TerrainMix.DEFAULT, ForkJoinPool.commonPool()).generate(maze, 9);
+        assertEquals(version + 1, maze.version());
+        DeadEnds after = maze.deadEnds(0, maze.size() - 1);
+        assertNotSame(before, after);
+        assertEquals(new DeadEnds(maze, 0, maze.size() - 1).filledCount(), after.filledCount());
+        // Setelah bulk edit selesai, mutator kembali menaikkan version
+        maze.setTerrain(5, Terrain.SAND);
+        assertTrue(maze.version() > version + 1);
+    }
+}
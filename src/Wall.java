@@ -1,8 +0,0 @@
-public class Wall {
-    public Cell cell1, cell2;
-
-    public Wall(Cell cell1, Cell cell2) {
-        this.cell1 = cell1;
-        this.cell2 = cell2;
-    }
-}
\ No newline at end of file